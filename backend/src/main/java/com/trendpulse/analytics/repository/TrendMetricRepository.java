@@ -12,7 +12,7 @@ import java.util.List;
  * Repository for TrendMetric entity
  */
 @Repository
-public interface TrendMetricRepository extends JpaRepository<TrendMetric, Long> {
+public interface TrendMetricRepository extends JpaRepository<TrendMetric, Long>, TrendMetricRepositoryCustom {
     
     List<TrendMetric> findByTrendIdAndRecordedAtBetweenOrderByRecordedAtAsc(
             Long trendId, Instant start, Instant end);
@@ -0,0 +1,16 @@
+package com.trendpulse.analytics.repository;
+
+import com.trendpulse.analytics.model.TrendMetric;
+
+import java.util.List;
+
+/**
+ * Custom bulk operations for TrendMetric entity
+ */
+public interface TrendMetricRepositoryCustom {
+    
+    /**
+     * Append metric snapshots in a single JDBC batch
+     */
+    void insertAll(List<TrendMetric> metrics);
+}
@@ -0,0 +1,45 @@
+package com.trendpulse.analytics.repository;
+
+import com.trendpulse.analytics.model.TrendMetric;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC implementation of bulk TrendMetric operations
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TrendMetricRepositoryImpl implements TrendMetricRepositoryCustom {
+    
+    private static final String INSERT_SQL = """
+            INSERT INTO trend_metrics (trend_id, score, velocity, engagement_rate,
+                                       post_count, comment_count, upvote_count, recorded_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void insertAll(List<TrendMetric> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_SQL, metrics, metrics.size(), (statement, metric) -> {
+            statement.setLong(1, metric.getTrendId());
+            statement.setDouble(2, metric.getScore());
+            statement.setDouble(3, metric.getVelocity());
+            statement.setDouble(4, metric.getEngagementRate());
+            statement.setInt(5, metric.getPostCount());
+            statement.setInt(6, metric.getCommentCount());
+            statement.setInt(7, metric.getUpvoteCount());
+            statement.setTimestamp(8, Timestamp.from(metric.getRecordedAt()));
+        });
+        
+        log.debug("Inserted {} trend metric snapshots in one batch", metrics.size());
+    }
+}
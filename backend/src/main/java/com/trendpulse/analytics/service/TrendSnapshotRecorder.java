@@ -0,0 +1,187 @@
+package com.trendpulse.analytics.service;
+
+import com.trendpulse.analytics.model.TrendMetric;
+import com.trendpulse.analytics.repository.TrendMetricRepository;
+import com.trendpulse.trendengine.model.Trend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends a {@link TrendMetric} snapshot for every trend update without blocking
+ * the detection path.
+ *
+ * Snapshots are captured as values, queued after the surrounding transaction
+ * commits and written by a single background thread in JDBC batches, flushed when
+ * {@code batch-size} snapshots are pending or {@code flush-interval-ms} has passed.
+ * When the bounded queue is full, new snapshots are dropped and counted.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendSnapshotRecorder {
+    
+    private final TrendMetricRepository trendMetricRepository;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${app.trend.snapshots.queue-capacity:100000}")
+    private int queueCapacity;
+    
+    @Value("${app.trend.snapshots.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.trend.snapshots.flush-interval-ms:2000}")
+    private long flushIntervalMs;
+    
+    private BlockingQueue<TrendMetric> queue;
+    private Thread writer;
+    private volatile boolean running;
+    
+    private Counter written;
+    private Counter dropped;
+    private Counter failed;
+    
+    @PostConstruct
+    public void initialize() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        
+        Gauge.builder("trend.snapshots.queued", queue, BlockingQueue::size)
+                .description("Trend metric snapshots waiting to be written")
+                .register(meterRegistry);
+        written = Counter.builder("trend.snapshots.written")
+                .description("Trend metric snapshots written")
+                .register(meterRegistry);
+        dropped = Counter.builder("trend.snapshots.dropped")
+                .description("Trend metric snapshots dropped because the queue was full")
+                .register(meterRegistry);
+        failed = Counter.builder("trend.snapshots.failed")
+                .description("Trend metric snapshots lost to failed batch writes")
+                .register(meterRegistry);
+        
+        running = true;
+        writer = new Thread(this::writeLoop, "trend-snapshot-writer");
+        writer.setDaemon(true);
+        writer.start();
+        
+        log.info("Trend snapshot recorder started (batch size: {}, flush interval: {}ms)",
+                batchSize, flushIntervalMs);
+    }
+    
+    /**
+     * Capture the current metrics of saved trends. Inside a transaction the
+     * snapshots are queued only once it commits.
+     */
+    public void record(List<Trend> trends) {
+        record(trends, Instant.now());
+    }
+    
+    /**
+     * Capture metrics of saved trends as observed at {@code recordedAt}, e.g. the
+     * time a replayed object was taken
+     */
+    public void record(List<Trend> trends, Instant recordedAt) {
+        if (trends.isEmpty()) return;
+        
+        List<TrendMetric> snapshots = new ArrayList<>(trends.size());
+        for (Trend trend : trends) {
+            snapshots.add(TrendMetric.builder()
+                    .trendId(trend.getId())
+                    .score(trend.getTrendScore())
+                    .velocity(trend.getVelocity())
+                    .engagementRate(trend.getEngagementRate())
+                    .postCount(trend.getPostCount())
+                    .commentCount(trend.getCommentCount())
+                    .upvoteCount(trend.getUpvoteCount())
+                    .recordedAt(recordedAt)
+                    .build());
+        }
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(snapshots);
+                }
+            });
+        } else {
+            enqueue(snapshots);
+        }
+    }
+    
+    private void enqueue(List<TrendMetric> snapshots) {
+        for (TrendMetric snapshot : snapshots) {
+            if (!queue.offer(snapshot)) {
+                dropped.increment();
+            }
+        }
+    }
+    
+    private void writeLoop() {
+        List<TrendMetric> batch = new ArrayList<>(batchSize);
+        
+        while (running || !queue.isEmpty()) {
+            try {
+                // Wait for the first snapshot, then give the batch up to the flush interval to fill
+                TrendMetric first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) break;
+                    
+                    TrendMetric next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutdown: write what is pending, then drain the rest
+                running = false;
+            }
+            
+            flush(batch);
+        }
+    }
+    
+    private void flush(List<TrendMetric> batch) {
+        if (batch.isEmpty()) return;
+        
+        try {
+            trendMetricRepository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            // A lost snapshot only leaves a gap in the series; never stall the writer
+            log.error("Failed to write {} trend metric snapshots", batch.size(), e);
+            failed.increment(batch.size());
+        }
+        batch.clear();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
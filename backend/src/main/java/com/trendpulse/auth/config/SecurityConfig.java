@@ -3,6 +3,7 @@ package com.trendpulse.auth.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -41,6 +42,10 @@ public class SecurityConfig {
                     "/actuator/**",
                     "/error"
                 ).permitAll()
+                // Admin endpoints
+                .requestMatchers("/api/v1/trends/backfill/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.PUT, "/api/v1/trends/scoring/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/api/v1/trends/scoring/**").hasRole("ADMIN")
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
@@ -42,6 +42,10 @@ public class User {
     @Builder.Default
     private Boolean isActive = true;
     
+    @Column(nullable = false)
+    @Builder.Default
+    private String role = "user";
+    
     @PrePersist
     protected void onCreate() {
         createdAt = Instant.now();
@@ -45,7 +45,7 @@ public class AuthService {
             throw new ServiceException("Invalid username or password");
         }
         
-        String accessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername());
+        String accessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername(), user.getRole());
         String refreshToken = jwtTokenService.generateRefreshToken(user.getId(), user.getUsername());
         
         log.info("User {} logged in successfully", user.getUsername());
@@ -78,7 +78,7 @@ public class AuthService {
                 throw new ServiceException("User account is inactive");
             }
             
-            String newAccessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername());
+            String newAccessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername(), user.getRole());
             
             log.info("Refreshed token for user: {}", username);
             
@@ -36,10 +36,11 @@ public class JwtTokenService {
     /**
      * Generate access token
      */
-    public String generateAccessToken(Long userId, String username) {
+    public String generateAccessToken(Long userId, String username, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("username", username);
+        claims.put("role", role);
         claims.put("type", "access");
         
         return Jwts.builder()
@@ -102,6 +103,14 @@ public class JwtTokenService {
         return validateToken(token).get("userId", Long.class);
     }
     
+    /**
+     * Extract role from token; tokens issued before roles existed carry none
+     */
+    public String extractRole(String token) {
+        String role = validateToken(token).get("role", String.class);
+        return role != null ? role : "user";
+    }
+    
     /**
      * Check if token is expired
      */
@@ -77,7 +77,7 @@ public class RedditOAuthService {
             User user = userRepository.findByUsername("demo_analyst")
                     .orElseThrow(() -> new ServiceException("Demo user not found. Please run migrations."));
             
-            String jwtAccessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername());
+            String jwtAccessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername(), user.getRole());
             String jwtRefreshToken = jwtTokenService.generateRefreshToken(user.getId(), user.getUsername());
             
             return AuthResponse.builder()
@@ -111,7 +111,7 @@ public class RedditOAuthService {
         saveOAuthToken(user, accessToken, refreshToken, expiresIn);
         
         // Generate JWT tokens
-        String jwtAccessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername());
+        String jwtAccessToken = jwtTokenService.generateAccessToken(user.getId(), user.getUsername(), user.getRole());
         String jwtRefreshToken = jwtTokenService.generateRefreshToken(user.getId(), user.getUsername());
         
         log.info("User {} authenticated via Reddit OAuth", user.getUsername());
@@ -1,33 +1,58 @@
 package com.trendpulse.ingestion.client;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.trendpulse.auth.model.User;
 import com.trendpulse.auth.service.RedditOAuthService;
 import com.trendpulse.common.exception.ServiceException;
 import com.trendpulse.ingestion.model.RedditPost;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
- * Reddit API client for fetching posts
+ * Non-blocking Reddit API client for fetching posts.
+ *
+ * All calls share one WebClient with a bounded connection pool. The reddit-api
+ * rate limiter and circuit breaker are applied as Reactor operators, so waiting
+ * for a permit or a response never holds a thread.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedditApiClient {
     
+    private static final String RESILIENCE_INSTANCE = "reddit-api";
+    
     private final WebClient.Builder webClientBuilder;
     private final RedditOAuthService redditOAuthService;
+    private final RedditListingParser redditListingParser;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RateLimiterRegistry rateLimiterRegistry;
     
     @Value("${app.reddit.api-url}")
     private String redditApiUrl;
@@ -35,39 +60,138 @@ public class RedditApiClient {
     @Value("${app.reddit.user-agent}")
     private String userAgent;
     
+    @Value("${spring.security.oauth2.client.registration.reddit.client-id}")
+    private String clientId;
+    
+    @Value("${app.reddit.client.max-connections:50}")
+    private int maxConnections;
+    
+    @Value("${app.reddit.client.response-timeout-seconds:15}")
+    private int responseTimeoutSeconds;
+    
+    private WebClient webClient;
+    private CircuitBreaker circuitBreaker;
+    private RateLimiter rateLimiter;
+    
+    @PostConstruct
+    public void initialize() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("reddit-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .compress(true);
+        
+        webClient = webClientBuilder.clone()
+                .baseUrl(redditApiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.USER_AGENT, userAgent)
+                .build();
+        
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        rateLimiter = rateLimiterRegistry.rateLimiter(RESILIENCE_INSTANCE);
+        
+        log.info("Reddit API client initialized with {} pooled connections", maxConnections);
+    }
+    
     /**
      * Fetch hot posts from a subreddit
      */
-    @CircuitBreaker(name = "reddit-api", fallbackMethod = "fetchPostsFallback")
-    @RateLimiter(name = "reddit-api")
-    public List<RedditPost> fetchHotPosts(User user, String subreddit, int limit) {
+    public Flux<RedditPost> fetchHotPosts(User user, String subreddit, int limit) {
+        return fetchListing(user, subreddit, "hot", limit);
+    }
+    
+    /**
+     * Fetch new posts from a subreddit
+     */
+    public Flux<RedditPost> fetchNewPosts(User user, String subreddit, int limit) {
+        return fetchListing(user, subreddit, "new", limit);
+    }
+    
+    /**
+     * Fetch new posts published after a high-water mark, newest first. Follows the
+     * listing's {@code after} cursor page by page and stops at the mark, at the end
+     * of the listing or after {@code maxPages} pages, whichever comes first.
+     */
+    public Flux<RedditPost> fetchNewPostsSince(User user, String subreddit, int limit, int maxPages,
+                                               Predicate<RedditPost> isNewer) {
+        return fetchNewPages(user, subreddit, limit, null, maxPages, isNewer);
+    }
+    
+    private Flux<RedditPost> fetchNewPages(User user, String subreddit, int limit, String after,
+                                           int pagesLeft, Predicate<RedditPost> isNewer) {
+        return Flux.defer(() -> {
+            AtomicReference<String> nextAfter = new AtomicReference<>();
+            AtomicBoolean reachedMark = new AtomicBoolean();
+            return fetchListingPage(user, subreddit, "new", limit, after, nextAfter::set)
+                    // Stops reading the response at the first post at or below the mark
+                    .takeWhile(post -> {
+                        if (isNewer.test(post)) {
+                            return true;
+                        }
+                        reachedMark.set(true);
+                        return false;
+                    })
+                    // Only request the next page once this one is known not to reach the mark
+                    .concatWith(Flux.defer(() -> {
+                        if (reachedMark.get() || nextAfter.get() == null) {
+                            return Flux.empty();
+                        }
+                        if (pagesLeft <= 1) {
+                            log.warn("Page limit reached in r/{} before the high-water mark, older new posts are skipped", subreddit);
+                            return Flux.empty();
+                        }
+                        return fetchNewPages(user, subreddit, limit, nextAfter.get(), pagesLeft - 1, isNewer);
+                    }));
+        });
+    }
+    
+    /**
+     * Fetch a subreddit listing, emitting posts in listing order
+     */
+    private Flux<RedditPost> fetchListing(User user, String subreddit, String listing, int limit) {
+        return fetchListingPage(user, subreddit, listing, limit, null, nextAfter -> { });
+    }
+    
+    /**
+     * Fetch one page of a subreddit listing, starting after the given fullname (or at the top).
+     * Posts are emitted while the response streams in; the cursor of the next page is passed
+     * to {@code nextAfter} once the whole page has been read.
+     */
+    private Flux<RedditPost> fetchListingPage(User user, String subreddit, String listing, int limit,
+                                              String after, Consumer<String> nextAfter) {
         if (isMockMode()) {
-            return getMockPosts(subreddit, limit);
+            return Flux.defer(() -> Flux.fromIterable(getMockPosts(subreddit, limit)));
         }
-        String accessToken = redditOAuthService.getRedditAccessToken(user);
-        
-        WebClient webClient = webClientBuilder.build();
-        
-        String url = String.format("%s/r/%s/hot.json?limit=%d", redditApiUrl, subreddit, limit);
         
-        JsonNode response = webClient.get()
-                .uri(url)
-                .header("Authorization", "Bearer " + accessToken)
-                .header("User-Agent", userAgent)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .block();
-        
-        return parseRedditResponse(response);
+        // The token lookup may hit the database or refresh over HTTP, so keep it off event loops
+        return Mono.fromCallable(() -> redditOAuthService.getRedditAccessToken(user))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(accessToken -> redditListingParser.parse(webClient.get()
+                        .uri(uriBuilder -> {
+                            uriBuilder.path("/r/{subreddit}/{listing}.json").queryParam("limit", limit);
+                            if (after != null) {
+                                uriBuilder.queryParam("after", after);
+                            }
+                            return uriBuilder.build(subreddit, listing);
+                        })
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class), nextAfter))
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(e -> !(e instanceof ServiceException), e -> fetchPostsFallback(subreddit, e));
     }
-
+    
     /**
      * Check if Mock Mode should be used
      */
     private boolean isMockMode() {
         return "your-reddit-client-id".equals(clientId) || "your_reddit_client_id".equals(clientId);
     }
-
+    
     /**
      * Get mock trends for testing
      */
@@ -101,90 +225,11 @@ public class RedditApiClient {
     }
     
     /**
-     * Fetch new posts from a subreddit
-     */
-    @CircuitBreaker(name = "reddit-api", fallbackMethod = "fetchPostsFallback")
-    @RateLimiter(name = "reddit-api")
-    public List<RedditPost> fetchNewPosts(User user, String subreddit, int limit) {
-        if (isMockMode()) {
-            return getMockPosts(subreddit, limit);
-        }
-        String accessToken = redditOAuthService.getRedditAccessToken(user);
-        
-        WebClient webClient = webClientBuilder.build();
-        
-        String url = String.format("%s/r/%s/new.json?limit=%d", redditApiUrl, subreddit, limit);
-        
-        JsonNode response = webClient.get()
-                .uri(url)
-                .header("Authorization", "Bearer " + accessToken)
-                .header("User-Agent", userAgent)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .block();
-        
-        return parseRedditResponse(response);
-    }
-    
-    /**
-     * Parse Reddit API response into RedditPost objects
-     */
-    private List<RedditPost> parseRedditResponse(JsonNode response) {
-        List<RedditPost> posts = new ArrayList<>();
-        
-        if (response == null || !response.has("data")) {
-            return posts;
-        }
-        
-        JsonNode children = response.get("data").get("children");
-        
-        if (children == null || !children.isArray()) {
-            return posts;
-        }
-        
-        for (JsonNode child : children) {
-            JsonNode data = child.get("data");
-            
-            if (data == null) {
-                continue;
-            }
-            
-            RedditPost post = RedditPost.builder()
-                    .id(data.has("id") ? data.get("id").asText() : null)
-                    .title(data.has("title") ? data.get("title").asText() : null)
-                    .selftext(data.has("selftext") ? data.get("selftext").asText() : null)
-                    .author(data.has("author") ? data.get("author").asText() : null)
-                    .subreddit(data.has("subreddit") ? data.get("subreddit").asText() : null)
-                    .permalink(data.has("permalink") ? data.get("permalink").asText() : null)
-                    .url(data.has("url") ? data.get("url").asText() : null)
-                    .score(data.has("score") ? data.get("score").asInt() : 0)
-                    .numComments(data.has("num_comments") ? data.get("num_comments").asInt() : 0)
-                    .ups(data.has("ups") ? data.get("ups").asInt() : 0)
-                    .downs(data.has("downs") ? data.get("downs").asInt() : 0)
-                    .upvoteRatio(data.has("upvote_ratio") ? data.get("upvote_ratio").asDouble() : 0.0)
-                    .createdUtc(data.has("created_utc") ? 
-                            Instant.ofEpochSecond(data.get("created_utc").asLong()) : Instant.now())
-                    .isVideo(data.has("is_video") && data.get("is_video").asBoolean())
-                    .isSelf(data.has("is_self") && data.get("is_self").asBoolean())
-                    .over18(data.has("over_18") && data.get("over_18").asBoolean())
-                    .spoiler(data.has("spoiler") && data.get("spoiler").asBoolean())
-                    .thumbnail(data.has("thumbnail") ? data.get("thumbnail").asText() : null)
-                    .domain(data.has("domain") ? data.get("domain").asText() : null)
-                    .build();
-            
-            posts.add(post);
-        }
-        
-        log.info("Parsed {} posts from Reddit response", posts.size());
-        return posts;
-    }
-    
-    /**
-     * Fallback method for circuit breaker
+     * Fallback for rejected or failed calls
      */
-    private List<RedditPost> fetchPostsFallback(User user, String subreddit, int limit, Exception e) {
+    private ServiceException fetchPostsFallback(String subreddit, Throwable e) {
         log.error("Reddit API call failed, using fallback. Subreddit: {}, Error: {}", 
                 subreddit, e.getMessage());
-        throw new ServiceException("Reddit API is currently unavailable", e);
+        return new ServiceException("Reddit API is currently unavailable", e);
     }
 }
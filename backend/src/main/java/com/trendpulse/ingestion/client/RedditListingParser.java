@@ -0,0 +1,251 @@
+package com.trendpulse.ingestion.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendpulse.common.exception.ServiceException;
+import com.trendpulse.ingestion.model.RedditPost;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming parser for Reddit listing responses.
+ *
+ * Feeds the response body chunk by chunk into Jackson's non-blocking parser and
+ * emits each {@code data.children[].data} object as a {@link RedditPost} as soon as
+ * its closing brace arrives, skipping unknown fields (media, previews, awards)
+ * without materializing them. Neither the body nor a {@code JsonNode} tree is ever
+ * held in memory, and each chunk is released once it has been parsed.
+ */
+@Component
+public class RedditListingParser {
+    
+    // Open containers on the path root -> data -> children -> child -> data (the post)
+    private static final int ROOT = 1;
+    private static final int LISTING_DATA = 2;
+    private static final int CHILDREN = 3;
+    private static final int CHILD = 4;
+    private static final int POST = 5;
+    
+    private final JsonFactory jsonFactory;
+    
+    public RedditListingParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+    
+    /**
+     * Parse a listing body into its posts, in listing order. The {@code after} cursor
+     * (null on the last page) is passed to {@code afterCursor} once the body is complete;
+     * it is not reported if the subscriber cancels early.
+     */
+    public Flux<RedditPost> parse(Flux<DataBuffer> body, Consumer<String> afterCursor) {
+        return Flux.defer(() -> {
+            ListingReader reader = new ListingReader(createParser());
+            return body.concatMapIterable(reader::feed)
+                    .concatWith(Flux.defer(() -> {
+                        List<RedditPost> posts = reader.finish();
+                        afterCursor.accept(reader.after);
+                        return Flux.fromIterable(posts);
+                    }))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .doFinally(signal -> reader.close());
+        });
+    }
+    
+    private JsonParser createParser() {
+        try {
+            return jsonFactory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new ServiceException("Failed to create Reddit listing parser", e);
+        }
+    }
+    
+    /**
+     * Parse state of one listing body. Tracks how deep the current token is and how
+     * many of the enclosing containers lie on the path to a post; everything off that
+     * path is skipped by depth alone, so no token needs to be buffered.
+     */
+    private static final class ListingReader {
+        
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private byte[] chunk = new byte[0];
+        private int depth;
+        private int matched;
+        private String field;
+        private RedditPost post;
+        private String after;
+        
+        ListingReader(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+        
+        /**
+         * Parse one chunk of the body, returning the posts it completed, and release it
+         */
+        List<RedditPost> feed(DataBuffer buffer) {
+            try {
+                int length = buffer.readableByteCount();
+                if (chunk.length < length) {
+                    chunk = new byte[length];
+                }
+                buffer.read(chunk, 0, length);
+                // The chunk array is reused: drain() consumes all fed input before returning
+                feeder.feedInput(chunk, 0, length);
+                return drain();
+            } catch (IOException e) {
+                throw new ServiceException("Failed to parse Reddit listing", e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        
+        /**
+         * Signal the end of the body and return any posts still pending
+         */
+        List<RedditPost> finish() {
+            try {
+                feeder.endOfInput();
+                return drain();
+            } catch (IOException e) {
+                throw new ServiceException("Failed to parse Reddit listing", e);
+            }
+        }
+        
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                // Nothing is held beyond the parser's own buffers
+            }
+        }
+        
+        private List<RedditPost> drain() throws IOException {
+            List<RedditPost> completed = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case FIELD_NAME -> field = parser.currentName();
+                    case START_OBJECT, START_ARRAY -> {
+                        if (depth == matched && entersPath(token)) {
+                            matched++;
+                            if (matched == POST) {
+                                post = newPost();
+                            }
+                        }
+                        depth++;
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (depth == matched) {
+                            if (matched == POST) {
+                                if (completed == null) {
+                                    completed = new ArrayList<>();
+                                }
+                                completed.add(completePost(post));
+                                post = null;
+                            }
+                            matched--;
+                        }
+                        depth--;
+                    }
+                    default -> {
+                        if (depth == matched) {
+                            readValue(token);
+                        }
+                    }
+                }
+            }
+            return completed != null ? completed : List.of();
+        }
+        
+        /**
+         * Whether a container opened at the deepest matched level continues the path.
+         * {@code field} is always the name of the value being opened, since a field's
+         * value directly follows its name.
+         */
+        private boolean entersPath(JsonToken token) {
+            return switch (matched) {
+                case 0, CHILDREN -> token == JsonToken.START_OBJECT;
+                case ROOT, CHILD -> token == JsonToken.START_OBJECT && "data".equals(field);
+                case LISTING_DATA -> token == JsonToken.START_ARRAY && "children".equals(field);
+                default -> false;
+            };
+        }
+        
+        private void readValue(JsonToken value) throws IOException {
+            if (matched == LISTING_DATA) {
+                if ("after".equals(field)) {
+                    after = text(value);
+                }
+            } else if (matched == POST) {
+                readPostField(value);
+            }
+        }
+        
+        private void readPostField(JsonToken value) throws IOException {
+            switch (field) {
+                case "id" -> post.setId(text(value));
+                case "title" -> post.setTitle(text(value));
+                case "selftext" -> post.setSelftext(text(value));
+                case "author" -> post.setAuthor(text(value));
+                case "subreddit" -> post.setSubreddit(text(value));
+                case "permalink" -> post.setPermalink(text(value));
+                case "url" -> post.setUrl(text(value));
+                case "thumbnail" -> post.setThumbnail(text(value));
+                case "domain" -> post.setDomain(text(value));
+                case "score" -> post.setScore(parser.getValueAsInt());
+                case "num_comments" -> post.setNumComments(parser.getValueAsInt());
+                case "ups" -> post.setUps(parser.getValueAsInt());
+                case "downs" -> post.setDowns(parser.getValueAsInt());
+                case "upvote_ratio" -> post.setUpvoteRatio(parser.getValueAsDouble());
+                case "created_utc" -> post.setCreatedUtc(Instant.ofEpochSecond(parser.getValueAsLong()));
+                case "is_video" -> post.setIsVideo(parser.getValueAsBoolean());
+                case "is_self" -> post.setIsSelf(parser.getValueAsBoolean());
+                case "over_18" -> post.setOver18(parser.getValueAsBoolean());
+                case "spoiler" -> post.setSpoiler(parser.getValueAsBoolean());
+                default -> {
+                    // Unknown scalar field, nothing to map
+                }
+            }
+        }
+        
+        /**
+         * String value of a scalar, or null for JSON null
+         */
+        private String text(JsonToken value) throws IOException {
+            return value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+        }
+        
+        private static RedditPost newPost() {
+            RedditPost post = new RedditPost();
+            post.setScore(0);
+            post.setNumComments(0);
+            post.setUps(0);
+            post.setDowns(0);
+            post.setUpvoteRatio(0.0);
+            post.setIsVideo(false);
+            post.setIsSelf(false);
+            post.setOver18(false);
+            post.setSpoiler(false);
+            return post;
+        }
+        
+        private static RedditPost completePost(RedditPost post) {
+            if (post.getCreatedUtc() == null) {
+                post.setCreatedUtc(Instant.now());
+            }
+            return post;
+        }
+    }
+}
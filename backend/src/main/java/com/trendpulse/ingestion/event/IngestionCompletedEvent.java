@@ -0,0 +1,21 @@
+package com.trendpulse.ingestion.event;
+
+import com.trendpulse.ingestion.model.RedditPost;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published once an ingestion has been stored, carrying the fetched posts
+ * so downstream consumers don't have to read them back from storage
+ */
+@Getter
+@AllArgsConstructor
+public class IngestionCompletedEvent {
+    
+    private final Long ingestionId;
+    private final String subreddit;
+    private final String storagePath;
+    private final List<RedditPost> posts;
+}
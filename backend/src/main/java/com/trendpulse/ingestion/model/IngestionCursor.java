@@ -0,0 +1,53 @@
+package com.trendpulse.ingestion.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * High-water mark of a subreddit's /new listing: the newest post already ingested.
+ * Incremental fetches page through /new until they reach it.
+ */
+@Entity
+@Table(name = "ingestion_cursors")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionCursor {
+    
+    @Id
+    private String subreddit;
+    
+    @Column(name = "last_post_id", nullable = false)
+    private String lastPostId;
+    
+    @Column(name = "last_created_utc", nullable = false)
+    private Instant lastCreatedUtc;
+    
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+    
+    /**
+     * Move the mark to the given post
+     */
+    public void advance(RedditPost newest) {
+        this.lastPostId = newest.getId();
+        this.lastCreatedUtc = newest.getCreatedUtc();
+        this.updatedAt = Instant.now();
+    }
+    
+    /**
+     * Whether a post is newer than the mark. Posts from the mark's second are kept
+     * unless they are the mark itself; the listing stops there. A post without a
+     * creation time is compared by id only, so it never ends the listing early.
+     */
+    public boolean isNewer(RedditPost post) {
+        if (lastPostId.equals(post.getId())) return false;
+        return post.getCreatedUtc() == null || !post.getCreatedUtc().isBefore(lastCreatedUtc);
+    }
+}
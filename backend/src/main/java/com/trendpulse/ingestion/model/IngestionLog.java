@@ -49,6 +49,9 @@ public class IngestionLog {
     @Column(name = "completed_at")
     private Instant completedAt;
     
+    @Column(name = "analyzed_at")
+    private Instant analyzedAt;
+    
     @PrePersist
     protected void onCreate() {
         if (startedAt == null) {
@@ -66,6 +69,22 @@ public class IngestionLog {
         this.completedAt = Instant.now();
     }
     
+    /**
+     * Mark an incremental ingestion that found no new posts: completed, with
+     * nothing left to analyze
+     */
+    public void markUpToDate() {
+        markCompleted(0, null);
+        this.analyzedAt = this.completedAt;
+    }
+    
+    /**
+     * Mark ingestion as folded into trends
+     */
+    public void markAnalyzed() {
+        this.analyzedAt = Instant.now();
+    }
+    
     /**
      * Mark ingestion as failed
      */
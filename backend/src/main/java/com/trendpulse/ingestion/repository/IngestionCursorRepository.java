@@ -0,0 +1,12 @@
+package com.trendpulse.ingestion.repository;
+
+import com.trendpulse.ingestion.model.IngestionCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for IngestionCursor entity
+ */
+@Repository
+public interface IngestionCursorRepository extends JpaRepository<IngestionCursor, String> {
+}
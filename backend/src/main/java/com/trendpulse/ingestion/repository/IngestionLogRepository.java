@@ -2,10 +2,12 @@ package com.trendpulse.ingestion.repository;
 
 import com.trendpulse.ingestion.model.IngestionLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for IngestionLog entity
@@ -19,5 +21,15 @@ public interface IngestionLogRepository extends JpaRepository<IngestionLog, Long
     
     List<IngestionLog> findByStartedAtAfterOrderByStartedAtDesc(Instant after);
     
+    List<IngestionLog> findTop500ByStatusAndAnalyzedAtIsNullOrderByStartedAtAsc(String status);
+    
+    /**
+     * Lock a completed, not yet analyzed ingestion for the current transaction.
+     * Returns empty if it is already analyzed or locked by another instance.
+     */
+    @Query(value = "SELECT * FROM ingestion_logs WHERE id = :id AND status = 'completed' " +
+            "AND analyzed_at IS NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<IngestionLog> lockForAnalysis(Long id);
+    
     long countByStatus(String status);
 }
@@ -14,6 +14,9 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,9 +36,7 @@ public class ObjectStorageService {
     public String storeRedditPosts(String subreddit, List<RedditPost> posts) {
         try {
             // Generate object key with timestamp
-            String timestamp = DateTimeFormatter.ISO_INSTANT.format(Instant.now())
-                    .replace(":", "-");
-            String objectKey = String.format("reddit/%s/%s.json", subreddit, timestamp);
+            String objectKey = redditPrefix(subreddit) + timestampKey(Instant.now()) + ".json";
             
             // Convert posts to JSON
             String jsonData = objectMapper.writeValueAsString(posts);
@@ -61,6 +62,60 @@ public class ObjectStorageService {
         }
     }
     
+    /**
+     * List up to {@code limit} stored Reddit objects of a subreddit created in
+     * [{@code from}, {@code to}] (second precision), oldest first, resuming after
+     * {@code startAfter} if given
+     */
+    public List<String> listRedditObjects(String subreddit, Instant from, Instant to,
+                                          String startAfter, int limit) {
+        String prefix = redditPrefix(subreddit);
+        // Keys sort by timestamp, so seek straight to the start of the range
+        String lowerBound = prefix + timestampKey(from.truncatedTo(ChronoUnit.SECONDS)).replace("Z", "");
+        String cursor = startAfter != null && startAfter.compareTo(lowerBound) > 0 ? startAfter : lowerBound;
+        
+        List<String> keys = new ArrayList<>();
+        while (keys.size() < limit) {
+            List<String> page = storageService.listObjectKeys(
+                    AppConstants.BUCKET_RAW_DATA, prefix, cursor, limit - keys.size());
+            if (page.isEmpty()) break;
+            
+            for (String key : page) {
+                Instant createdAt = objectTimestamp(key);
+                if (createdAt == null) continue;
+                if (createdAt.truncatedTo(ChronoUnit.SECONDS).isAfter(to)) return keys;
+                keys.add(key);
+            }
+            cursor = page.get(page.size() - 1);
+        }
+        return keys;
+    }
+    
+    /**
+     * Creation time encoded in a Reddit object key, or null if the key is not one
+     */
+    public static Instant objectTimestamp(String objectKey) {
+        String name = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+        int time = name.indexOf('T');
+        if (!name.endsWith(".json") || time < 0) return null;
+        
+        String timestamp = name.substring(0, time + 1)
+                + name.substring(time + 1, name.length() - ".json".length()).replace("-", ":");
+        try {
+            return Instant.parse(timestamp);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+    
+    private static String redditPrefix(String subreddit) {
+        return String.format("reddit/%s/", subreddit);
+    }
+    
+    private static String timestampKey(Instant instant) {
+        return DateTimeFormatter.ISO_INSTANT.format(instant).replace(":", "-");
+    }
+    
     /**
      * Retrieve Reddit posts from storage
      */
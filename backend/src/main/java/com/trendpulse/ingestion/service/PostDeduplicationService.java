@@ -0,0 +1,185 @@
+package com.trendpulse.ingestion.service;
+
+import com.trendpulse.ingestion.model.RedditPost;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers the engagement last stored for each post so ingestion only persists
+ * posts that are new or whose score or comment count moved meaningfully.
+ *
+ * Entries live in Redis hashes per subreddit and time bucket
+ * ({@code ingestion:posts:<subreddit>:<bucket>}, field post id, value
+ * {@code score:comments:storedAt}). Lookups read the current and the previous bucket
+ * and each bucket expires after two periods, so a post is forgotten one to two
+ * periods after it was last stored. If Redis is unavailable every post is kept.
+ *
+ * A post still listed is stored again once its entry is older than
+ * {@code refresh-minutes}, even if unchanged. The incremental trend engine drops
+ * posts not seen for {@code app.trend.incremental.retention-minutes}, so the
+ * refresh interval must stay below that window or live posts fall out of the
+ * trend aggregates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDeduplicationService {
+    
+    private static final String KEY_PREFIX = "ingestion:posts:";
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${app.ingestion.dedup.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.ingestion.dedup.retention-hours:24}")
+    private long retentionHours;
+    
+    @Value("${app.ingestion.dedup.min-score-delta:10}")
+    private int minScoreDelta;
+    
+    @Value("${app.ingestion.dedup.min-comment-delta:5}")
+    private int minCommentDelta;
+    
+    @Value("${app.ingestion.dedup.relative-delta:0.1}")
+    private double relativeDelta;
+    
+    @Value("${app.ingestion.dedup.refresh-minutes:30}")
+    private long refreshMinutes;
+    
+    private Counter kept;
+    private Counter skipped;
+    
+    @PostConstruct
+    public void initialize() {
+        kept = Counter.builder("ingestion.posts.kept")
+                .description("Fetched posts that were new or changed and got stored")
+                .register(meterRegistry);
+        skipped = Counter.builder("ingestion.posts.skipped")
+                .description("Fetched posts skipped because their engagement had not changed meaningfully")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Posts that are new or changed since they were last stored, in fetch order
+     */
+    public List<RedditPost> filterChanged(String subreddit, List<RedditPost> posts) {
+        if (!enabled || posts.isEmpty()) {
+            return posts;
+        }
+        
+        List<String> ids = new ArrayList<>(posts.size());
+        for (RedditPost post : posts) {
+            ids.add(post.getId() != null ? post.getId() : "");
+        }
+        
+        List<Object> current;
+        List<Object> previous;
+        try {
+            long bucket = currentBucket();
+            HashOperations<String, String, Object> hashes = redisTemplate.opsForHash();
+            current = hashes.multiGet(key(subreddit, bucket), ids);
+            previous = hashes.multiGet(key(subreddit, bucket - 1), ids);
+        } catch (Exception e) {
+            log.warn("Post dedup lookup failed for r/{}, keeping all posts: {}", subreddit, e.getMessage());
+            return posts;
+        }
+        
+        long refreshBefore = Instant.now().getEpochSecond() - refreshMinutes * 60;
+        List<RedditPost> changed = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            Object stored = current.get(i) != null ? current.get(i) : previous.get(i);
+            if (posts.get(i).getId() == null || stored == null
+                    || hasChanged(posts.get(i), stored.toString(), refreshBefore)) {
+                changed.add(posts.get(i));
+            }
+        }
+        
+        kept.increment(changed.size());
+        skipped.increment(posts.size() - changed.size());
+        log.debug("r/{}: {} of {} fetched posts are new or changed", subreddit, changed.size(), posts.size());
+        return changed;
+    }
+    
+    /**
+     * Record the engagement of stored posts. Call only once they are persisted,
+     * so a failed upload does not hide them from the next cycle.
+     */
+    public void remember(String subreddit, List<RedditPost> posts) {
+        if (!enabled || posts.isEmpty()) return;
+        
+        long storedAt = Instant.now().getEpochSecond();
+        Map<String, Object> entries = new HashMap<>();
+        for (RedditPost post : posts) {
+            if (post.getId() != null) {
+                entries.put(post.getId(),
+                        value(post.getScore()) + ":" + value(post.getNumComments()) + ":" + storedAt);
+            }
+        }
+        
+        try {
+            String key = key(subreddit, currentBucket());
+            redisTemplate.opsForHash().putAll(key, entries);
+            redisTemplate.expire(key, Duration.ofHours(retentionHours * 2));
+        } catch (Exception e) {
+            log.warn("Failed to record stored posts of r/{}: {}", subreddit, e.getMessage());
+        }
+    }
+    
+    /**
+     * Whether the entry was stored before {@code refreshBefore} (or has no stored
+     * time), or the score or comment count moved by at least the absolute threshold
+     * and the relative share of the stored value
+     */
+    private boolean hasChanged(RedditPost post, String stored, long refreshBefore) {
+        String[] fields = stored.split(":");
+        if (fields.length < 3) return true;
+        
+        int storedScore;
+        int storedComments;
+        long storedAt;
+        try {
+            storedScore = Integer.parseInt(fields[0]);
+            storedComments = Integer.parseInt(fields[1]);
+            storedAt = Long.parseLong(fields[2]);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        if (storedAt < refreshBefore) return true;
+        
+        return exceeds(value(post.getScore()), storedScore, minScoreDelta)
+                || exceeds(value(post.getNumComments()), storedComments, minCommentDelta);
+    }
+    
+    private boolean exceeds(int value, int stored, int minDelta) {
+        int delta = Math.abs(value - stored);
+        return delta >= minDelta && delta >= relativeDelta * Math.abs(stored);
+    }
+    
+    private long currentBucket() {
+        return Instant.now().getEpochSecond() / (Math.max(retentionHours, 1) * 3600);
+    }
+    
+    private static String key(String subreddit, long bucket) {
+        return KEY_PREFIX + subreddit + ":" + bucket;
+    }
+    
+    private static int value(Integer count) {
+        return count != null ? count : 0;
+    }
+}
@@ -4,20 +4,45 @@ import com.trendpulse.auth.model.User;
 import com.trendpulse.auth.repository.UserRepository;
 import com.trendpulse.common.exception.ServiceException;
 import com.trendpulse.ingestion.client.RedditApiClient;
+import com.trendpulse.ingestion.event.IngestionCompletedEvent;
+import com.trendpulse.ingestion.model.IngestionCursor;
 import com.trendpulse.ingestion.model.IngestionLog;
 import com.trendpulse.ingestion.model.RedditPost;
+import com.trendpulse.ingestion.repository.IngestionCursorRepository;
 import com.trendpulse.ingestion.repository.IngestionLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Service for fetching Reddit data
+ * Service for fetching Reddit data.
+ *
+ * Each subreddit is fetched as a reactive pipeline: the Reddit call is
+ * non-blocking, while ingestion log writes and the storage upload run on the
+ * bounded elastic scheduler in short, separate steps.
+ *
+ * In incremental mode each subreddit's /new listing is paged until the stored
+ * high-water mark, so a cycle only fetches and stores posts it has not seen.
+ * The mark advances only once the new posts are stored. New posts are seen with
+ * almost no engagement, so unless {@code refresh-hot} is off each cycle also
+ * re-observes the first page of hot posts to pick up how engagement grew. Posts whose engagement
+ * has not changed meaningfully since they were last stored are not stored again.
  */
 @Slf4j
 @Service
@@ -26,77 +51,228 @@ public class RedditFetchService {
     
     private final RedditApiClient redditApiClient;
     private final ObjectStorageService objectStorageService;
+    private final PostDeduplicationService postDeduplicationService;
     private final IngestionLogRepository ingestionLogRepository;
+    private final IngestionCursorRepository ingestionCursorRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
     
     @Value("${app.ingestion.posts-per-fetch}")
     private int postsPerFetch;
     
+    @Value("${app.ingestion.concurrency:4}")
+    private int concurrency;
+    
+    @Value("${app.ingestion.incremental.enabled:true}")
+    private boolean incremental;
+    
+    @Value("${app.ingestion.incremental.max-pages:10}")
+    private int maxPages;
+    
+    @Value("${app.ingestion.incremental.refresh-hot:true}")
+    private boolean refreshHot;
+    
+    private Timer cycleTimer;
+    
+    @PostConstruct
+    public void initialize() {
+        cycleTimer = Timer.builder("ingestion.cycle.duration")
+                .description("Wall-clock time to fetch and store all subreddits of an ingestion cycle")
+                .register(meterRegistry);
+    }
+    
     /**
      * Fetch posts from a subreddit
      */
-    @Transactional
     public IngestionLog fetchFromSubreddit(String subreddit) {
-        // Get first active user with Reddit OAuth (for API access)
-        User user = userRepository.findAll().stream()
-                .filter(User::getIsActive)
-                .findFirst()
-                .orElseThrow(() -> new ServiceException("No active user found for Reddit API access"));
+        return fetch(findApiUser(), subreddit).block();
+    }
+    
+    /**
+     * Fetch posts from multiple subreddits concurrently. All calls share the
+     * reddit-api rate limiter, so concurrency only overlaps waiting on Reddit and storage.
+     */
+    public List<IngestionLog> fetchFromSubreddits(List<String> subreddits) {
+        long start = System.nanoTime();
+        User user = findApiUser();
         
-        // Create ingestion log
-        IngestionLog log = IngestionLog.builder()
-                .source("reddit")
-                .subreddit(subreddit)
-                .status("running")
-                .build();
-        log = ingestionLogRepository.save(log);
+        List<IngestionLog> logs = Flux.fromIterable(subreddits)
+                .flatMapSequential(subreddit -> fetch(user, subreddit)
+                        .onErrorResume(e -> {
+                            log.error("Failed to fetch from r/{}, continuing with others", subreddit);
+                            return Mono.empty();
+                        }), concurrency)
+                .collectList()
+                .block();
         
-        try {
-            // Fetch posts from Reddit
-            List<RedditPost> posts = redditApiClient.fetchHotPosts(user, subreddit, postsPerFetch);
-            
-            if (posts.isEmpty()) {
-                log.markFailed("No posts fetched from subreddit");
-                ingestionLogRepository.save(log);
-                return log;
+        long elapsed = System.nanoTime() - start;
+        cycleTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Fetched {} subreddits in {} ms", subreddits.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        
+        return logs;
+    }
+    
+    /**
+     * Fetch and store one subreddit. No transaction spans the HTTP call or the upload:
+     * the ingestion log is written in short transactions before and after.
+     */
+    private Mono<IngestionLog> fetch(User user, String subreddit) {
+        return Mono.fromCallable(() -> ingestionLogRepository.save(IngestionLog.builder()
+                        .source("reddit")
+                        .subreddit(subreddit)
+                        .status("running")
+                        .build()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(ingestionLog -> fetchPosts(user, subreddit)
+                        .collectList()
+                        .zipWith(refreshPosts(user, subreddit).collectList())
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(fetched -> complete(ingestionLog, subreddit, fetched.getT1(),
+                                merge(fetched.getT1(), fetched.getT2())))
+                        .onErrorResume(e -> Mono.fromCallable(() -> fail(ingestionLog, subreddit, e))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .flatMap(error -> Mono.<IngestionLog>error(error))));
+    }
+    
+    /**
+     * Posts of this cycle: new posts since the high-water mark in incremental mode
+     * (one page of /new on the first run), otherwise one page of hot posts
+     */
+    private Flux<RedditPost> fetchPosts(User user, String subreddit) {
+        if (!incremental) {
+            return redditApiClient.fetchHotPosts(user, subreddit, postsPerFetch);
+        }
+        
+        return Mono.fromCallable(() -> ingestionCursorRepository.findById(subreddit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(cursor -> cursor
+                        .map(mark -> redditApiClient.fetchNewPostsSince(
+                                user, subreddit, postsPerFetch, maxPages, mark::isNewer))
+                        .orElseGet(() -> redditApiClient.fetchNewPosts(user, subreddit, postsPerFetch)));
+    }
+    
+    /**
+     * Hot posts re-observed in incremental mode so engagement growth of known posts
+     * reaches trend detection; nothing otherwise
+     */
+    private Flux<RedditPost> refreshPosts(User user, String subreddit) {
+        if (!incremental || !refreshHot) {
+            return Flux.empty();
+        }
+        return redditApiClient.fetchHotPosts(user, subreddit, postsPerFetch);
+    }
+    
+    /**
+     * New posts followed by the refreshed posts not among them
+     */
+    private static List<RedditPost> merge(List<RedditPost> newPosts, List<RedditPost> refreshed) {
+        if (refreshed.isEmpty()) return newPosts;
+        
+        Set<String> ids = new HashSet<>();
+        List<RedditPost> posts = new ArrayList<>(newPosts.size() + refreshed.size());
+        for (RedditPost post : newPosts) {
+            ids.add(post.getId());
+            posts.add(post);
+        }
+        for (RedditPost post : refreshed) {
+            if (post.getId() == null || ids.add(post.getId())) {
+                posts.add(post);
             }
-            
-            // Store in MinIO
-            String storagePath = objectStorageService.storeRedditPosts(subreddit, posts);
-            
-            // Update log
-            log.markCompleted(posts.size(), storagePath);
-            ingestionLogRepository.save(log);
-            
-            this.log.info("Successfully fetched {} posts from r/{}", posts.size(), subreddit);
-            
-            return log;
-            
-        } catch (Exception e) {
-            this.log.error("Failed to fetch from r/{}: {}", subreddit, e.getMessage(), e);
-            log.markFailed(e.getMessage());
-            ingestionLogRepository.save(log);
-            throw new ServiceException("Failed to fetch Reddit data", e);
         }
+        return posts;
     }
     
     /**
-     * Fetch posts from multiple subreddits
+     * Store the new or changed posts in MinIO, mark the ingestion completed and
+     * hand them to trend detection. Only {@code newPosts} (from /new) move the
+     * high-water mark; {@code posts} also holds re-observed hot posts.
      */
-    @Transactional
-    public List<IngestionLog> fetchFromSubreddits(List<String> subreddits) {
-        List<IngestionLog> logs = new ArrayList<>();
+    private IngestionLog complete(IngestionLog ingestionLog, String subreddit, List<RedditPost> newPosts,
+                                  List<RedditPost> posts) {
+        if (posts.isEmpty()) {
+            if (incremental) {
+                log.debug("No new posts in r/{}", subreddit);
+                ingestionLog.markUpToDate();
+            } else {
+                ingestionLog.markFailed("No posts fetched from subreddit");
+            }
+            return ingestionLogRepository.save(ingestionLog);
+        }
         
-        for (String subreddit : subreddits) {
-            try {
-                IngestionLog log = fetchFromSubreddit(subreddit);
-                logs.add(log);
-            } catch (Exception e) {
-                log.error("Failed to fetch from r/{}, continuing with others", subreddit);
+        List<RedditPost> changed = postDeduplicationService.filterChanged(subreddit, posts);
+        if (changed.isEmpty()) {
+            log.debug("All {} posts fetched from r/{} are unchanged", posts.size(), subreddit);
+            ingestionLog.markUpToDate();
+            ingestionLog = ingestionLogRepository.save(ingestionLog);
+            if (incremental) {
+                advanceCursor(subreddit, newPosts);
             }
+            return ingestionLog;
         }
         
-        return logs;
+        // Store in MinIO
+        String storagePath = objectStorageService.storeRedditPosts(subreddit, changed);
+        postDeduplicationService.remember(subreddit, changed);
+        
+        // Update log
+        ingestionLog.markCompleted(changed.size(), storagePath);
+        ingestionLog = ingestionLogRepository.save(ingestionLog);
+        
+        if (incremental) {
+            advanceCursor(subreddit, newPosts);
+        }
+        
+        // Hand the posts to trend detection without a storage round-trip
+        eventPublisher.publishEvent(new IngestionCompletedEvent(
+                ingestionLog.getId(), subreddit, storagePath, changed));
+        
+        log.info("Successfully fetched {} posts from r/{}, stored {} new or changed",
+                posts.size(), subreddit, changed.size());
+        
+        return ingestionLog;
+    }
+    
+    /**
+     * Move the subreddit's high-water mark to the newest stored post
+     */
+    private void advanceCursor(String subreddit, List<RedditPost> posts) {
+        Optional<RedditPost> newest = posts.stream()
+                .filter(post -> post.getId() != null && post.getCreatedUtc() != null)
+                .max(Comparator.comparing(RedditPost::getCreatedUtc));
+        if (newest.isEmpty()) return;
+        
+        IngestionCursor cursor = ingestionCursorRepository.findById(subreddit)
+                .orElseGet(() -> IngestionCursor.builder().subreddit(subreddit).build());
+        if (cursor.getLastCreatedUtc() != null
+                && newest.get().getCreatedUtc().isBefore(cursor.getLastCreatedUtc())) return;
+        
+        cursor.advance(newest.get());
+        ingestionCursorRepository.save(cursor);
+    }
+    
+    /**
+     * Record a failed fetch on its ingestion log (blocking; runs off event loops)
+     */
+    private ServiceException fail(IngestionLog ingestionLog, String subreddit, Throwable e) {
+        log.error("Failed to fetch from r/{}: {}", subreddit, e.getMessage(), e);
+        try {
+            ingestionLog.markFailed(e.getMessage());
+            ingestionLogRepository.save(ingestionLog);
+        } catch (Exception saveError) {
+            log.error("Failed to mark ingestion {} as failed", ingestionLog.getId(), saveError);
+        }
+        return new ServiceException("Failed to fetch Reddit data", e);
+    }
+    
+    /**
+     * Get first active user with Reddit OAuth (for API access)
+     */
+    private User findApiUser() {
+        return userRepository.findAll().stream()
+                .filter(User::getIsActive)
+                .findFirst()
+                .orElseThrow(() -> new ServiceException("No active user found for Reddit API access"));
     }
     
     /**
@@ -4,6 +4,7 @@ import com.trendpulse.common.exception.ServiceException;
 import com.trendpulse.storage.model.StorageMetadata;
 import io.minio.*;
 import io.minio.errors.*;
+import io.minio.messages.Item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,8 @@ import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * MinIO implementation of storage service
@@ -91,6 +94,35 @@ public class S3StorageService implements StorageService {
         }
     }
     
+    @Override
+    public List<String> listObjectKeys(String bucketName, String prefix, String startAfter, int maxKeys) {
+        try {
+            ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .recursive(true)
+                    .maxKeys(maxKeys);
+            if (startAfter != null) {
+                args.startAfter(startAfter);
+            }
+            
+            // The listing pages lazily; stop reading once enough keys are collected
+            List<String> keys = new ArrayList<>();
+            for (Result<Item> result : minioClient.listObjects(args.build())) {
+                Item item = result.get();
+                if (item.isDir()) continue;
+                
+                keys.add(item.objectName());
+                if (keys.size() >= maxKeys) break;
+            }
+            return keys;
+        
+        } catch (Exception e) {
+            log.error("Failed to list objects under: {} in bucket: {}", prefix, bucketName, e);
+            throw new ServiceException("Failed to list objects in storage", e);
+        }
+    }
+    
     @Override
     public void delete(String bucketName, String objectKey) {
         try {
@@ -3,6 +3,7 @@ package com.trendpulse.storage.service;
 import com.trendpulse.storage.model.StorageMetadata;
 
 import java.io.InputStream;
+import java.util.List;
 
 /**
  * Interface for object storage operations
@@ -25,6 +26,12 @@ public interface StorageService {
      */
     boolean exists(String bucketName, String objectKey);
     
+    /**
+     * List up to {@code maxKeys} object keys under a prefix in lexicographic order,
+     * starting after {@code startAfter} (null to start at the beginning)
+     */
+    List<String> listObjectKeys(String bucketName, String prefix, String startAfter, int maxKeys);
+    
     /**
      * Delete an object
      */
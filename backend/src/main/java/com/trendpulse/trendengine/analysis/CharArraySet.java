@@ -0,0 +1,80 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.Collection;
+
+/**
+ * Immutable open-addressing set of words, queryable straight from a char buffer.
+ *
+ * Keys are stored as char arrays alongside their cached hashes in a table kept at most
+ * a quarter full, so a lookup is usually a single probe and never allocates.
+ */
+public final class CharArraySet {
+    
+    private final char[][] keys;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+    
+    public CharArraySet(Collection<? extends CharSequence> words) {
+        int capacity = Integer.highestOneBit(Math.max(words.size(), 2) * 4 - 1) << 1;
+        this.keys = new char[capacity][];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        
+        int count = 0;
+        for (CharSequence word : words) {
+            char[] key = word.toString().toCharArray();
+            if (insert(key)) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+    
+    /**
+     * Check whether the first {@code length} chars of the buffer are in the set
+     */
+    public boolean contains(char[] buffer, int length) {
+        int hash = CharHash.hash(buffer, 0, length);
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && equals(keys[slot], buffer, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Check whether the word is in the set
+     */
+    public boolean contains(CharSequence word) {
+        char[] buffer = word.toString().toCharArray();
+        return contains(buffer, buffer.length);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private boolean insert(char[] key) {
+        int hash = CharHash.hash(key, 0, key.length);
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && equals(keys[slot], key, key.length)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        return true;
+    }
+    
+    private static boolean equals(char[] key, char[] buffer, int length) {
+        if (key.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer[i]) return false;
+        }
+        return true;
+    }
+}
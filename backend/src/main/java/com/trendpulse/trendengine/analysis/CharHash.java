@@ -0,0 +1,20 @@
+package com.trendpulse.trendengine.analysis;
+
+/**
+ * 32-bit hash of a slice of chars for the open-addressing tables in this package.
+ * Matches {@link String#hashCode()} with the high bits folded into the low ones,
+ * since slots are picked by masking the low bits.
+ */
+final class CharHash {
+    
+    private CharHash() {
+    }
+    
+    static int hash(char[] buffer, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + buffer[i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,74 @@
+package com.trendpulse.trendengine.analysis;
+
+/**
+ * Count-min sketch over 64-bit item hashes.
+ *
+ * Uses a fixed {@code depth x width} grid of int counters regardless of how many
+ * distinct items are added. Estimates never undercount; they may overcount when
+ * items collide in every row. Not thread-safe.
+ */
+public final class CountMinSketch {
+    
+    private final int depth;
+    private final int mask;
+    private final int[] counters;
+    
+    /**
+     * @param width counters per row, rounded up to a power of two
+     * @param depth number of rows (independent hash functions)
+     */
+    public CountMinSketch(int width, int depth) {
+        int roundedWidth = Integer.highestOneBit(Math.max(width, 2) - 1) << 1;
+        this.depth = depth;
+        this.mask = roundedWidth - 1;
+        this.counters = new int[roundedWidth * depth];
+    }
+    
+    /**
+     * Count one occurrence of the item
+     */
+    public void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters[row * (mask + 1) + ((h1 + row * h2) & mask)]++;
+        }
+    }
+    
+    /**
+     * Upper-bound estimate of the item's count
+     */
+    public int estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * (mask + 1) + ((h1 + row * h2) & mask)]);
+        }
+        return min;
+    }
+    
+    /**
+     * Halve every counter so old occurrences fade out
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+    }
+    
+    /**
+     * 64-bit hash (FNV-1a with a final avalanche) of a slice of chars
+     */
+    public static long hash(char[] buffer, int offset, int length) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = offset; i < offset + length; i++) {
+            h ^= buffer[i];
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
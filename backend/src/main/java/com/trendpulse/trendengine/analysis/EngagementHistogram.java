@@ -0,0 +1,131 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Decaying histogram of non-negative engagement values with log-spaced buckets,
+ * from which the median and median absolute deviation (MAD) are read.
+ *
+ * Each doubling of {@code 1 + value} is split into eight buckets, so estimates
+ * are within about 5% of the true quantiles while the whole history of a
+ * subreddit fits in a fixed array. Old observations fade out through
+ * {@link #decay}. Not thread-safe.
+ */
+public final class EngagementHistogram {
+    
+    private static final int BUCKETS_PER_DOUBLING = 8;
+    
+    /**
+     * Number of buckets; values of 2^40 and above share the last one
+     */
+    public static final int BUCKETS = 40 * BUCKETS_PER_DOUBLING;
+    
+    private final double[] counts;
+    private double total;
+    
+    public EngagementHistogram() {
+        this.counts = new double[BUCKETS];
+    }
+    
+    /**
+     * Restore a histogram from bucket counts previously read with {@link #counts()}
+     */
+    public static EngagementHistogram of(double[] counts) {
+        EngagementHistogram histogram = new EngagementHistogram();
+        System.arraycopy(counts, 0, histogram.counts, 0, Math.min(counts.length, BUCKETS));
+        for (double count : histogram.counts) {
+            histogram.total += count;
+        }
+        return histogram;
+    }
+    
+    /**
+     * Record a value; negative values count as 0
+     */
+    public void add(double value) {
+        counts[bucket(value)]++;
+        total++;
+    }
+    
+    /**
+     * Multiply every count by {@code factor}, e.g. 0.5 to halve the weight of history
+     */
+    public void decay(double factor) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] *= factor;
+        }
+        total *= factor;
+    }
+    
+    /**
+     * Total (decayed) weight of recorded values
+     */
+    public double total() {
+        return total;
+    }
+    
+    public double[] counts() {
+        return counts.clone();
+    }
+    
+    /**
+     * Estimated median, or NaN if empty
+     */
+    public double median() {
+        if (total <= 0) return Double.NaN;
+        
+        double half = total / 2;
+        double cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= half) {
+                return value(i);
+            }
+        }
+        return value(BUCKETS - 1);
+    }
+    
+    /**
+     * Estimated median absolute deviation from the median, or NaN if empty
+     */
+    public double mad() {
+        double median = median();
+        if (Double.isNaN(median)) return Double.NaN;
+        
+        // Deviation of each occupied bucket, ordered by deviation
+        int occupied = 0;
+        double[] deviations = new double[BUCKETS];
+        double[] weights = new double[BUCKETS];
+        Integer[] order = new Integer[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] <= 0) continue;
+            deviations[occupied] = Math.abs(value(i) - median);
+            weights[occupied] = counts[i];
+            order[occupied] = occupied;
+            occupied++;
+        }
+        Arrays.sort(order, 0, occupied, (a, b) -> Double.compare(deviations[a], deviations[b]));
+        
+        double half = total / 2;
+        double cumulative = 0;
+        for (int i = 0; i < occupied; i++) {
+            cumulative += weights[order[i]];
+            if (cumulative >= half) {
+                return deviations[order[i]];
+            }
+        }
+        return deviations[order[occupied - 1]];
+    }
+    
+    private static int bucket(double value) {
+        double doublings = Math.log1p(Math.max(value, 0.0)) / Math.log(2);
+        return (int) Math.min(BUCKETS - 1, doublings * BUCKETS_PER_DOUBLING);
+    }
+    
+    /**
+     * Representative value of a bucket: its geometric midpoint in 1 + value space
+     */
+    private static double value(int bucket) {
+        return Math.pow(2, (bucket + 0.5) / BUCKETS_PER_DOUBLING) - 1;
+    }
+}
@@ -0,0 +1,123 @@
+package com.trendpulse.trendengine.analysis;
+
+/**
+ * Exponentially weighted mean and variance per 64-bit key, held in parallel
+ * primitive arrays with open addressing.
+ *
+ * {@link #observe} scores a value against the key's history and then folds it in,
+ * both in O(1). Entries not observed since a cutoff can be dropped with
+ * {@link #prune}. Not thread-safe.
+ */
+public final class EwmaTable {
+    
+    private final double alpha;
+    private final int minSamples;
+    private final double minStdDev;
+    
+    private long[] keys;
+    private double[] means;
+    private double[] variances;
+    private int[] samples;
+    private long[] lastSeen;
+    private int size;
+    
+    /**
+     * @param alpha      weight of the newest observation, in (0, 1]
+     * @param minSamples observations needed before a z-score is reported
+     * @param minStdDev  floor for the standard deviation so flat histories do not divide by zero
+     */
+    public EwmaTable(double alpha, int minSamples, double minStdDev) {
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.minStdDev = minStdDev;
+        allocate(1024);
+    }
+    
+    /**
+     * Score a value against the key's history, then fold it into the averages.
+     * Returns the z-score of the value, or NaN while the key has fewer than
+     * {@code minSamples} observations.
+     */
+    public double observe(long key, double value, long now) {
+        int slot = slotOf(key);
+        if (samples[slot] == 0) {
+            keys[slot] = key;
+            means[slot] = value;
+            variances[slot] = 0.0;
+            samples[slot] = 1;
+            lastSeen[slot] = now;
+            if (++size * 2 > keys.length) {
+                rehash(keys.length * 2, Long.MIN_VALUE);
+            }
+            return Double.NaN;
+        }
+        
+        double mean = means[slot];
+        double stdDev = Math.max(Math.sqrt(variances[slot]), minStdDev);
+        double zScore = samples[slot] >= minSamples ? (value - mean) / stdDev : Double.NaN;
+        
+        double diff = value - mean;
+        double increment = alpha * diff;
+        means[slot] = mean + increment;
+        variances[slot] = (1 - alpha) * (variances[slot] + diff * increment);
+        if (samples[slot] < Integer.MAX_VALUE) samples[slot]++;
+        lastSeen[slot] = now;
+        
+        return zScore;
+    }
+    
+    /**
+     * Drop keys not observed since {@code before}. Returns the number of keys kept.
+     */
+    public int prune(long before) {
+        int capacity = keys.length;
+        while (capacity > 1024 && size * 4 < capacity) {
+            capacity /= 2;
+        }
+        rehash(capacity, before);
+        return size;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        while (samples[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+    
+    private void rehash(int capacity, long keepSince) {
+        long[] oldKeys = keys;
+        double[] oldMeans = means;
+        double[] oldVariances = variances;
+        int[] oldSamples = samples;
+        long[] oldLastSeen = lastSeen;
+        
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldSamples[i] == 0 || oldLastSeen[i] < keepSince) continue;
+            
+            int slot = slotOf(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            means[slot] = oldMeans[i];
+            variances[slot] = oldVariances[i];
+            samples[slot] = oldSamples[i];
+            lastSeen[slot] = oldLastSeen[i];
+            size++;
+        }
+    }
+    
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        means = new double[capacity];
+        variances = new double[capacity];
+        samples = new int[capacity];
+        lastSeen = new long[capacity];
+    }
+}
@@ -0,0 +1,76 @@
+package com.trendpulse.trendengine.analysis;
+
+/**
+ * Holds the last few consecutive words of a title joined by single spaces,
+ * so every n-gram ending at the current word is a suffix of one char buffer.
+ * Not thread-safe.
+ */
+public final class PhraseWindow {
+    
+    private final int maxWords;
+    private final int[] starts;
+    private char[] buffer = new char[128];
+    private int words;
+    private int length;
+    
+    public PhraseWindow(int maxWords) {
+        this.maxWords = maxWords;
+        this.starts = new int[maxWords];
+    }
+    
+    /**
+     * Start a new phrase, e.g. at a title or stop-word boundary
+     */
+    public void reset() {
+        words = 0;
+        length = 0;
+    }
+    
+    /**
+     * Append a word, dropping the oldest one once the window is full
+     */
+    public void push(char[] token, int tokenLength) {
+        if (words == maxWords) {
+            int shift = starts[1];
+            System.arraycopy(buffer, shift, buffer, 0, length - shift);
+            length -= shift;
+            for (int i = 1; i < words; i++) {
+                starts[i - 1] = starts[i] - shift;
+            }
+            words--;
+        }
+        
+        int required = length + tokenLength + 1;
+        if (required > buffer.length) {
+            char[] grown = new char[Math.max(required, buffer.length * 2)];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
+        }
+        
+        if (words > 0) {
+            buffer[length++] = ' ';
+        }
+        starts[words++] = length;
+        System.arraycopy(token, 0, buffer, length, tokenLength);
+        length += tokenLength;
+    }
+    
+    public int words() {
+        return words;
+    }
+    
+    public char[] buffer() {
+        return buffer;
+    }
+    
+    /**
+     * Offset of the phrase made of the last {@code n} words; it runs to {@link #length()}
+     */
+    public int offsetOfLast(int n) {
+        return starts[words - n];
+    }
+    
+    public int length() {
+        return length;
+    }
+}
@@ -0,0 +1,103 @@
+package com.trendpulse.trendengine.analysis;
+
+import com.trendpulse.ingestion.model.RedditPost;
+
+import java.util.List;
+
+/**
+ * Columnar (struct-of-arrays) view of the posts of one ingestion.
+ *
+ * Built once per ingestion so metric loops read primitive arrays instead of
+ * unboxing {@link RedditPost} fields per element. Post ordinals are positions in
+ * the source list. Missing numbers are stored as 0 and a missing creation time as
+ * {@link #NO_TIMESTAMP}. Immutable once built.
+ */
+public final class PostBatch {
+    
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    
+    private final int size;
+    private final String[] ids;
+    private final String[] titles;
+    private final String[] selftexts;
+    private final int[] scores;
+    private final int[] comments;
+    private final int[] ups;
+    private final int[] votes;
+    private final long[] createdAt;
+    
+    private PostBatch(List<RedditPost> posts) {
+        size = posts.size();
+        ids = new String[size];
+        titles = new String[size];
+        selftexts = new String[size];
+        scores = new int[size];
+        comments = new int[size];
+        ups = new int[size];
+        votes = new int[size];
+        createdAt = new long[size];
+        
+        for (int i = 0; i < size; i++) {
+            RedditPost post = posts.get(i);
+            ids[i] = post.getId();
+            titles[i] = post.getTitle();
+            selftexts[i] = post.getSelftext();
+            scores[i] = post.getScore() != null ? post.getScore() : 0;
+            comments[i] = post.getNumComments() != null ? post.getNumComments() : 0;
+            ups[i] = post.getUps() != null ? post.getUps() : 0;
+            // Reddit only reports ups and the ratio; total votes follow from the two
+            Double ratio = post.getUpvoteRatio();
+            votes[i] = ratio != null && ratio > 0 ? (int) Math.round(ups[i] / ratio) : ups[i];
+            createdAt[i] = post.getCreatedUtc() != null ? post.getCreatedUtc().getEpochSecond() : NO_TIMESTAMP;
+        }
+    }
+    
+    /**
+     * Build the columns for a list of posts
+     */
+    public static PostBatch of(List<RedditPost> posts) {
+        return new PostBatch(posts);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String id(int post) {
+        return ids[post];
+    }
+    
+    public String title(int post) {
+        return titles[post];
+    }
+    
+    public String selftext(int post) {
+        return selftexts[post];
+    }
+    
+    public int score(int post) {
+        return scores[post];
+    }
+    
+    public int comments(int post) {
+        return comments[post];
+    }
+    
+    public int ups(int post) {
+        return ups[post];
+    }
+    
+    /**
+     * Estimated total votes (ups / upvote ratio)
+     */
+    public int votes(int post) {
+        return votes[post];
+    }
+    
+    /**
+     * Creation time in epoch seconds, or {@link #NO_TIMESTAMP}
+     */
+    public long createdAt(int post) {
+        return createdAt[post];
+    }
+}
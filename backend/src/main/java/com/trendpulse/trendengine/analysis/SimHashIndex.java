@@ -0,0 +1,163 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Bounded recency index of 64-bit SimHash signatures for near-duplicate detection.
+ *
+ * Two texts are near-duplicates when their signatures differ in at most
+ * {@code maxDistance} bits (at most 3). Each signature is split into four 16-bit
+ * bands; by the pigeonhole principle any near-duplicate matches at least one band
+ * exactly, so a lookup only compares the few signatures in four hash chains.
+ * When full, the least recently seen signature is dropped; a match counts as a
+ * sighting. Each signature keeps the id of the post it came from, so a post seen
+ * again never matches its own earlier signature. Not thread-safe.
+ */
+public final class SimHashIndex {
+    
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+    
+    private final int maxDistance;
+    private final int capacity;
+    private final long[] signatures;
+    private final String[] owners;
+    private final boolean[] live;
+    private final int[][] heads;
+    private final int[][] next;
+    private final int[][] prev;
+    private final int bucketShift;
+    private int cursor;
+    
+    public SimHashIndex(int capacity, int maxDistance) {
+        if (maxDistance > BANDS - 1) {
+            throw new IllegalArgumentException("maxDistance must be at most " + (BANDS - 1));
+        }
+        this.maxDistance = maxDistance;
+        this.capacity = Math.max(capacity, 1);
+        this.signatures = new long[this.capacity];
+        this.owners = new String[this.capacity];
+        this.live = new boolean[this.capacity];
+        
+        int buckets = Integer.highestOneBit(Math.max(this.capacity, 2) - 1) << 1;
+        this.bucketShift = 32 - Integer.numberOfTrailingZeros(buckets);
+        this.heads = new int[BANDS][buckets];
+        this.next = new int[BANDS][this.capacity];
+        this.prev = new int[BANDS][this.capacity];
+        for (int[] bandHeads : heads) {
+            Arrays.fill(bandHeads, -1);
+        }
+    }
+    
+    /**
+     * Record the signature of post {@code owner} and report whether a near-duplicate
+     * of another post was already indexed. A zero signature (text without tokens) is
+     * never treated as a duplicate; a null owner matches no earlier signature as its own.
+     */
+    public boolean checkAndAdd(long signature, String owner) {
+        if (signature == 0) return false;
+        
+        int self = -1;
+        int match = -1;
+        for (int band = 0; band < BANDS && match < 0; band++) {
+            int bucket = bucket(signature, band);
+            for (int slot = heads[band][bucket]; slot != -1; slot = next[band][slot]) {
+                if (Long.bitCount(signatures[slot] ^ signature) > maxDistance) continue;
+                
+                if (owner != null && owner.equals(owners[slot])) {
+                    self = slot;
+                } else {
+                    match = slot;
+                    break;
+                }
+            }
+        }
+        
+        if (match >= 0) {
+            // Refresh recency: move the matched entry to the newest position
+            String matchOwner = owners[match];
+            unlink(match);
+            insert(signatures[match], matchOwner);
+            return true;
+        }
+        
+        // Replace the post's own earlier signature instead of indexing it twice
+        if (self >= 0) {
+            unlink(self);
+        }
+        insert(signature, owner);
+        return false;
+    }
+    
+    /**
+     * 64-bit SimHash of the tokens of the given texts, or 0 if there are none
+     */
+    public static long signature(CharSequence... texts) {
+        int[] weights = new int[64];
+        int[] tokens = new int[1];
+        
+        for (CharSequence text : texts) {
+            TitleTokenizer.tokenize(text, (buffer, length) -> {
+                long hash = CountMinSketch.hash(buffer, 0, length);
+                for (int bit = 0; bit < 64; bit++) {
+                    weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+                }
+                tokens[0]++;
+            });
+        }
+        
+        if (tokens[0] == 0) return 0;
+        
+        long signature = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                signature |= 1L << bit;
+            }
+        }
+        return signature;
+    }
+    
+    private void insert(long signature, String owner) {
+        int slot = cursor;
+        cursor = (cursor + 1) % capacity;
+        if (live[slot]) {
+            unlink(slot);
+        }
+        
+        signatures[slot] = signature;
+        owners[slot] = owner;
+        live[slot] = true;
+        for (int band = 0; band < BANDS; band++) {
+            int bucket = bucket(signature, band);
+            int head = heads[band][bucket];
+            next[band][slot] = head;
+            prev[band][slot] = -1;
+            if (head != -1) {
+                prev[band][head] = slot;
+            }
+            heads[band][bucket] = slot;
+        }
+    }
+    
+    private void unlink(int slot) {
+        for (int band = 0; band < BANDS; band++) {
+            int before = prev[band][slot];
+            int after = next[band][slot];
+            if (before != -1) {
+                next[band][before] = after;
+            } else {
+                heads[band][bucket(signatures[slot], band)] = after;
+            }
+            if (after != -1) {
+                prev[band][after] = before;
+            }
+        }
+        owners[slot] = null;
+        live[slot] = false;
+    }
+    
+    private int bucket(long signature, int band) {
+        int value = (int) (signature >>> (band * BAND_BITS)) & 0xFFFF;
+        return ((value + band * 0x10000) * 0x9E3779B9) >>> bucketShift;
+    }
+}
@@ -0,0 +1,121 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Weighted Space-Saving heavy-hitters summary.
+ *
+ * Tracks at most {@code capacity} keys. When a new key arrives while full, the key
+ * with the smallest count is replaced and the newcomer inherits that count as its
+ * possible overestimate. Any key whose true weight exceeds total/capacity is
+ * guaranteed to be tracked. Updates are O(log capacity). Not thread-safe.
+ */
+public final class SpaceSavingTopK<K> {
+    
+    private static final Comparator<Counter<?>> BY_COUNT = Comparator
+            .<Counter<?>>comparingLong(counter -> counter.count)
+            .thenComparingLong(counter -> counter.sequence);
+    
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    private final TreeSet<Counter<K>> byCount = new TreeSet<>(BY_COUNT);
+    private long nextSequence;
+    
+    public SpaceSavingTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+    
+    /**
+     * Add weight to a key. Returns the key evicted to make room for it, or null.
+     */
+    public K offer(K key, long weight) {
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count += weight;
+            byCount.add(counter);
+            return null;
+        }
+        
+        K evicted = null;
+        long inherited = 0;
+        if (counters.size() >= capacity) {
+            Counter<K> min = byCount.pollFirst();
+            counters.remove(min.key);
+            evicted = min.key;
+            inherited = min.count;
+        }
+        
+        counter = new Counter<>(key, inherited + weight, inherited, nextSequence++);
+        counters.put(key, counter);
+        byCount.add(counter);
+        return evicted;
+    }
+    
+    /**
+     * Highest-count keys first
+     */
+    public List<Counter<K>> top(int limit) {
+        List<Counter<K>> result = new ArrayList<>(Math.min(limit, counters.size()));
+        Iterator<Counter<K>> iterator = byCount.descendingIterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+    
+    /**
+     * Halve every count and error so that old weight fades out
+     */
+    public void decay() {
+        byCount.clear();
+        for (Counter<K> counter : counters.values()) {
+            counter.count >>>= 1;
+            counter.error >>>= 1;
+            byCount.add(counter);
+        }
+    }
+    
+    public int size() {
+        return counters.size();
+    }
+    
+    /**
+     * Estimated weight of a key; {@code count - error} is a guaranteed lower bound
+     */
+    public static final class Counter<K> {
+        private final K key;
+        private final long sequence;
+        private long count;
+        private long error;
+        
+        private Counter(K key, long count, long error, long sequence) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+            this.sequence = sequence;
+        }
+        
+        public K key() {
+            return key;
+        }
+        
+        public long count() {
+            return count;
+        }
+        
+        public long error() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.trendpulse.trendengine.analysis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stop-word lexicon used during topic extraction.
+ *
+ * Built once at startup from the default English stop words plus the
+ * {@code app.trend.stop-words} configuration. Each configured subreddit gets its own
+ * merged set so that a token is always checked with a single lookup.
+ */
+@Slf4j
+@Component
+@ConfigurationProperties(prefix = "app.trend.stop-words")
+public class StopWordLexicon {
+    
+    private static final List<String> DEFAULT_STOP_WORDS = List.of(
+        "this", "that", "with", "from", "have", "been", "were", "will",
+        "would", "could", "should", "about", "their", "there", "these",
+        "those", "what", "when", "where", "which", "while", "after",
+        // Short function words only matter for phrases, single words need 4+ letters
+        "the", "and", "for", "are", "but", "not", "you", "all", "any", "can",
+        "had", "her", "was", "one", "our", "out", "has", "his", "how", "its",
+        "who", "why", "did", "get", "got", "yet"
+    );
+    
+    /**
+     * Additional stop words applied to every subreddit
+     */
+    @Getter
+    @Setter
+    private List<String> extra = new ArrayList<>();
+    
+    /**
+     * Additional stop words per subreddit
+     */
+    @Getter
+    @Setter
+    private Map<String, List<String>> subreddits = new HashMap<>();
+    
+    private CharArraySet globalStopWords;
+    private Map<String, CharArraySet> subredditStopWords = Map.of();
+    
+    @PostConstruct
+    public void initialize() {
+        List<String> global = new ArrayList<>(DEFAULT_STOP_WORDS);
+        extra.forEach(word -> global.add(normalize(word)));
+        globalStopWords = new CharArraySet(global);
+        
+        Map<String, CharArraySet> perSubreddit = new HashMap<>();
+        subreddits.forEach((subreddit, words) -> {
+            List<String> merged = new ArrayList<>(global);
+            words.forEach(word -> merged.add(normalize(word)));
+            perSubreddit.put(normalize(subreddit), new CharArraySet(merged));
+        });
+        subredditStopWords = Map.copyOf(perSubreddit);
+        
+        log.info("Loaded {} stop words with extensions for {} subreddits",
+                globalStopWords.size(), subredditStopWords.size());
+    }
+    
+    /**
+     * Get the stop words that apply to a subreddit
+     */
+    public CharArraySet forSubreddit(String subreddit) {
+        if (subreddit == null || subredditStopWords.isEmpty()) {
+            return globalStopWords;
+        }
+        return subredditStopWords.getOrDefault(normalize(subreddit), globalStopWords);
+    }
+    
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
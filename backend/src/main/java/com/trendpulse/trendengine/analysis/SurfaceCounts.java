@@ -0,0 +1,103 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Counts the surface forms (lowercased words or phrases as written in titles) seen
+ * for one topic, whose key may be a stem or alias, and picks the form to display.
+ *
+ * Topics rarely have more than a few forms, so they are kept in small parallel
+ * arrays and matched by a linear scan over the chars; a String is allocated only
+ * for a form not seen before. Not thread-safe.
+ */
+public final class SurfaceCounts {
+    
+    private String[] forms = new String[2];
+    private int[] counts = new int[2];
+    private int size;
+    
+    /**
+     * Count one occurrence of the form in {@code buffer[offset, offset + length)}
+     */
+    public void add(char[] buffer, int offset, int length) {
+        int index = indexOf(buffer, offset, length);
+        if (index < 0) {
+            index = append(new String(buffer, offset, length));
+        }
+        counts[index]++;
+    }
+    
+    /**
+     * Count one occurrence of the form
+     */
+    public void add(String form) {
+        int index = indexOf(form);
+        if (index < 0) {
+            index = append(form);
+        }
+        counts[index]++;
+    }
+    
+    /**
+     * Forget one occurrence of the form, dropping it once none is left
+     */
+    public void remove(String form) {
+        int index = indexOf(form);
+        if (index < 0) return;
+        
+        if (--counts[index] == 0) {
+            size--;
+            forms[index] = forms[size];
+            counts[index] = counts[size];
+            forms[size] = null;
+        }
+    }
+    
+    /**
+     * Most frequent form, ties broken by the lexicographically smallest so every
+     * instance picks the same one; null if no form is counted
+     */
+    public String mostFrequent() {
+        String best = null;
+        int bestCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (counts[i] > bestCount || counts[i] == bestCount && forms[i].compareTo(best) < 0) {
+                best = forms[i];
+                bestCount = counts[i];
+            }
+        }
+        return best;
+    }
+    
+    private int append(String form) {
+        if (size == forms.length) {
+            forms = Arrays.copyOf(forms, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        forms[size] = form;
+        counts[size] = 0;
+        return size++;
+    }
+    
+    private int indexOf(String form) {
+        for (int i = 0; i < size; i++) {
+            if (forms[i].equals(form)) return i;
+        }
+        return -1;
+    }
+    
+    private int indexOf(char[] buffer, int offset, int length) {
+        for (int i = 0; i < size; i++) {
+            if (matches(forms[i], buffer, offset, length)) return i;
+        }
+        return -1;
+    }
+    
+    private static boolean matches(String form, char[] buffer, int offset, int length) {
+        if (form.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (form.charAt(i) != buffer[offset + i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package com.trendpulse.trendengine.analysis;
+
+/**
+ * Single-pass tokenizer for post titles.
+ *
+ * Produces the same tokens as {@code toLowerCase().replaceAll("[^a-z0-9\\s]", "").split("\\s+")}
+ * for ASCII input, without the intermediate Strings or regex matching. Characters are
+ * lowercased and filtered while scanning, and each token is handed to the sink as a
+ * slice of a per-thread buffer, so callers only allocate for tokens they keep.
+ */
+public final class TitleTokenizer {
+    
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[INITIAL_BUFFER_SIZE]);
+    
+    private TitleTokenizer() {
+        // Prevent instantiation
+    }
+    
+    /**
+     * Receives tokens from the tokenizer.
+     * The buffer is only valid for the duration of the call and must not be retained.
+     */
+    @FunctionalInterface
+    public interface TokenSink {
+        void accept(char[] buffer, int length);
+    }
+    
+    /**
+     * Tokenize text and pass every non-empty token to the sink.
+     * Not reentrant: the sink must not tokenize on the same thread.
+     */
+    public static void tokenize(CharSequence text, TokenSink sink) {
+        if (text == null) return;
+        
+        int length = text.length();
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        
+        int tokenLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            
+            if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9') {
+                buffer[tokenLength++] = c;
+            } else if (c >= 'A' && c <= 'Z') {
+                buffer[tokenLength++] = (char) (c + ('a' - 'A'));
+            } else if (isWhitespace(c)) {
+                if (tokenLength > 0) {
+                    sink.accept(buffer, tokenLength);
+                    tokenLength = 0;
+                }
+            } else if (c >= 128) {
+                // Non-ASCII is dropped unless it lowercases to ASCII (e.g. the Kelvin sign)
+                char lower = Character.toLowerCase(c);
+                if (lower >= 'a' && lower <= 'z') {
+                    buffer[tokenLength++] = lower;
+                }
+            }
+            // Remaining ASCII punctuation is dropped, joining the surrounding characters
+        }
+        
+        if (tokenLength > 0) {
+            sink.accept(buffer, tokenLength);
+        }
+    }
+    
+    /**
+     * Whitespace as matched by the regex {@code \s}
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
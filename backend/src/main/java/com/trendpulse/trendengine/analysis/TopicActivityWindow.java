@@ -0,0 +1,118 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Time-bucketed post counter for a single topic.
+ *
+ * Keeps 60 one-minute buckets and 24 one-hour buckets in ring buffers. Each bucket
+ * remembers which minute/hour it currently holds, so stale buckets are reset lazily
+ * on write and ignored on read. Recording or forgetting a post is O(1); window queries scan at most
+ * one ring. Not thread-safe.
+ */
+public final class TopicActivityWindow {
+    
+    public static final int MINUTE_BUCKETS = 60;
+    public static final int HOUR_BUCKETS = 24;
+    
+    private final int[] minuteCounts = new int[MINUTE_BUCKETS];
+    private final long[] minuteIds = new long[MINUTE_BUCKETS];
+    private final int[] hourCounts = new int[HOUR_BUCKETS];
+    private final long[] hourIds = new long[HOUR_BUCKETS];
+    
+    public TopicActivityWindow() {
+        Arrays.fill(minuteIds, Long.MIN_VALUE);
+        Arrays.fill(hourIds, Long.MIN_VALUE);
+    }
+    
+    /**
+     * Record a post created at the given epoch second
+     */
+    public void record(long epochSecond) {
+        long minute = Math.floorDiv(epochSecond, 60);
+        int minuteSlot = (int) Math.floorMod(minute, MINUTE_BUCKETS);
+        if (minute >= minuteIds[minuteSlot]) {
+            if (minute != minuteIds[minuteSlot]) {
+                minuteIds[minuteSlot] = minute;
+                minuteCounts[minuteSlot] = 0;
+            }
+            minuteCounts[minuteSlot]++;
+        }
+        
+        long hour = Math.floorDiv(epochSecond, 3600);
+        int hourSlot = (int) Math.floorMod(hour, HOUR_BUCKETS);
+        if (hour >= hourIds[hourSlot]) {
+            if (hour != hourIds[hourSlot]) {
+                hourIds[hourSlot] = hour;
+                hourCounts[hourSlot] = 0;
+            }
+            hourCounts[hourSlot]++;
+        }
+    }
+    
+    /**
+     * Forget a post recorded at the given epoch second. Buckets that have since been
+     * reused for a later minute or hour no longer hold it and are left alone.
+     */
+    public void unrecord(long epochSecond) {
+        long minute = Math.floorDiv(epochSecond, 60);
+        int minuteSlot = (int) Math.floorMod(minute, MINUTE_BUCKETS);
+        if (minuteIds[minuteSlot] == minute && minuteCounts[minuteSlot] > 0) {
+            minuteCounts[minuteSlot]--;
+        }
+        
+        long hour = Math.floorDiv(epochSecond, 3600);
+        int hourSlot = (int) Math.floorMod(hour, HOUR_BUCKETS);
+        if (hourIds[hourSlot] == hour && hourCounts[hourSlot] > 0) {
+            hourCounts[hourSlot]--;
+        }
+    }
+    
+    /**
+     * Posts per hour over the trailing window. Windows up to an hour use minute
+     * buckets, longer windows are rounded up to whole hourly buckets (max 24h).
+     */
+    public double velocity(long nowEpochSecond, int windowMinutes) {
+        if (windowMinutes <= MINUTE_BUCKETS) {
+            long nowMinute = Math.floorDiv(nowEpochSecond, 60);
+            return countMinutes(nowMinute - windowMinutes, nowMinute) * 60.0 / windowMinutes;
+        }
+        
+        int hours = Math.min(HOUR_BUCKETS, (windowMinutes + 59) / 60);
+        long nowHour = Math.floorDiv(nowEpochSecond, 3600);
+        int count = 0;
+        for (int i = 0; i < HOUR_BUCKETS; i++) {
+            if (hourIds[i] > nowHour - hours && hourIds[i] <= nowHour) {
+                count += hourCounts[i];
+            }
+        }
+        return (double) count / hours;
+    }
+    
+    /**
+     * Change in posts per hour between the last half hour and the half hour before it,
+     * expressed per hour
+     */
+    public double acceleration(long nowEpochSecond) {
+        long nowMinute = Math.floorDiv(nowEpochSecond, 60);
+        int half = MINUTE_BUCKETS / 2;
+        
+        double recentRate = countMinutes(nowMinute - half, nowMinute) * 60.0 / half;
+        double previousRate = countMinutes(nowMinute - MINUTE_BUCKETS, nowMinute - half) * 60.0 / half;
+        
+        return (recentRate - previousRate) * 60.0 / half;
+    }
+    
+    /**
+     * Sum minute buckets in the range (fromExclusive, toInclusive]
+     */
+    private int countMinutes(long fromExclusive, long toInclusive) {
+        int count = 0;
+        for (int i = 0; i < MINUTE_BUCKETS; i++) {
+            if (minuteIds[i] > fromExclusive && minuteIds[i] <= toInclusive) {
+                count += minuteCounts[i];
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,157 @@
+package com.trendpulse.trendengine.analysis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maps raw title tokens to canonical topic words, so inflections and synonyms
+ * ("models", "modeling", "llms") count towards one topic.
+ *
+ * A token is looked up in the {@code app.trend.canonical.aliases} map, then stemmed
+ * with {@link PorterStemmer}, and the stem is looked up in the aliases again.
+ * Results are memoized in a fixed-size direct-mapped cache keyed by the raw token,
+ * so the stemmer only runs on a cache miss and memory stays bounded. Entries are
+ * immutable; concurrent callers may overwrite each other's slots, which only costs
+ * a recomputation.
+ */
+@Slf4j
+@Component
+@ConfigurationProperties(prefix = "app.trend.canonical")
+public class TopicCanonicalizer {
+    
+    /**
+     * Reduce tokens to their Porter stem
+     */
+    @Getter
+    @Setter
+    private boolean stemming = true;
+    
+    /**
+     * Number of memoized tokens, rounded up to a power of two
+     */
+    @Getter
+    @Setter
+    private int cacheSize = 65536;
+    
+    /**
+     * Raw tokens or stems mapped to the canonical word they count as
+     */
+    @Getter
+    @Setter
+    private Map<String, String> aliases = new HashMap<>();
+    
+    private CharArrayMap aliasMap;
+    private Entry[] cache;
+    
+    @PostConstruct
+    public void initialize() {
+        Map<String, char[]> normalized = new HashMap<>();
+        aliases.forEach((alias, canonical) -> normalized.put(normalize(alias), normalize(canonical).toCharArray()));
+        aliasMap = new CharArrayMap(normalized);
+        
+        int capacity = Integer.highestOneBit(Math.max(cacheSize, 2) - 1) << 1;
+        cache = new Entry[capacity];
+        
+        log.info("Topic canonicalization: stemming {}, {} aliases, cache of {} tokens",
+                stemming ? "on" : "off", normalized.size(), capacity);
+    }
+    
+    /**
+     * Canonical form of the token in {@code buffer[0, length)}. The returned array
+     * is shared and must not be modified.
+     */
+    public char[] canonicalize(char[] buffer, int length) {
+        int hash = CharHash.hash(buffer, 0, length);
+        Entry[] entries = cache;
+        int slot = hash & (entries.length - 1);
+        
+        Entry entry = entries[slot];
+        if (entry != null && entry.hash == hash && entry.matches(buffer, length)) {
+            return entry.canonical;
+        }
+        
+        char[] raw = Arrays.copyOf(buffer, length);
+        entry = new Entry(raw, hash, compute(raw));
+        entries[slot] = entry;
+        return entry.canonical;
+    }
+    
+    private char[] compute(char[] raw) {
+        char[] alias = aliasMap.get(raw, raw.length);
+        if (alias != null) return alias;
+        if (!stemming) return raw;
+        
+        char[] stem = PorterStemmer.stem(raw, raw.length);
+        alias = aliasMap.get(stem, stem.length);
+        return alias != null ? alias : stem;
+    }
+    
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Memoized canonical form of one raw token
+     */
+    private static final class Entry {
+        private final char[] raw;
+        private final int hash;
+        private final char[] canonical;
+        
+        Entry(char[] raw, int hash, char[] canonical) {
+            this.raw = raw;
+            this.hash = hash;
+            this.canonical = canonical;
+        }
+        
+        boolean matches(char[] buffer, int length) {
+            return Arrays.equals(raw, 0, raw.length, buffer, 0, length);
+        }
+    }
+    
+    /**
+     * Read-only open-addressing map from char slices to char arrays
+     */
+    private static final class CharArrayMap {
+        private final char[][] keys;
+        private final char[][] values;
+        private final int mask;
+        
+        CharArrayMap(Map<String, char[]> entries) {
+            int capacity = Integer.highestOneBit(Math.max(entries.size() * 2, 2) - 1) << 1;
+            keys = new char[capacity][];
+            values = new char[capacity][];
+            mask = capacity - 1;
+            
+            entries.forEach((key, value) -> {
+                char[] chars = key.toCharArray();
+                int slot = CharHash.hash(chars, 0, chars.length) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = chars;
+                values[slot] = value;
+            });
+        }
+        
+        char[] get(char[] buffer, int length) {
+            int slot = CharHash.hash(buffer, 0, length) & mask;
+            while (keys[slot] != null) {
+                if (Arrays.equals(keys[slot], 0, keys[slot].length, buffer, 0, length)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+    }
+}
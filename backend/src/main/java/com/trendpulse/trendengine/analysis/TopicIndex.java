@@ -0,0 +1,150 @@
+package com.trendpulse.trendengine.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Inverted index from topics to post ordinals for a single ingestion.
+ *
+ * Topics are dictionary-encoded to dense int ids on first sight; lookups hash the
+ * token chars directly, so a topic String is allocated once per distinct topic
+ * rather than once per occurrence. Each id owns an {@code int[]} posting list of
+ * the ordinals of the posts that mention it, and counts the surface forms the
+ * topic was written in so it can be labelled. Posts must be added in ordinal order.
+ * Not thread-safe while building.
+ */
+public final class TopicIndex {
+    
+    private int[] slots;
+    private String[] topics = new String[64];
+    private int[] hashes = new int[64];
+    private int[][] postings = new int[64][];
+    private int[] postingSizes = new int[64];
+    private SurfaceCounts[] surfaces = new SurfaceCounts[64];
+    private int size;
+    
+    public TopicIndex() {
+        slots = new int[128];
+        Arrays.fill(slots, -1);
+    }
+    
+    /**
+     * Record that the post with the given ordinal mentions the topic in
+     * {@code buffer[offset, offset + length)}, written as the surface form in
+     * {@code surface[surfaceOffset, surfaceOffset + surfaceLength)}. Returns the topic id.
+     */
+    public int add(char[] buffer, int offset, int length, int postOrdinal,
+                   char[] surface, int surfaceOffset, int surfaceLength) {
+        int id = add(buffer, offset, length, postOrdinal);
+        surfaces[id].add(surface, surfaceOffset, surfaceLength);
+        return id;
+    }
+    
+    /**
+     * Record that the post with the given ordinal mentions the topic in
+     * {@code buffer[offset, offset + length)}. Returns the topic id.
+     */
+    public int add(char[] buffer, int offset, int length, int postOrdinal) {
+        int id = idOf(buffer, offset, length);
+        int[] list = postings[id];
+        int listSize = postingSizes[id];
+        
+        if (listSize > 0 && list[listSize - 1] == postOrdinal) {
+            return id;
+        }
+        if (listSize == list.length) {
+            list = postings[id] = Arrays.copyOf(list, listSize * 2);
+        }
+        list[listSize] = postOrdinal;
+        postingSizes[id] = listSize + 1;
+        return id;
+    }
+    
+    /**
+     * Number of distinct topics
+     */
+    public int size() {
+        return size;
+    }
+    
+    public String topic(int id) {
+        return topics[id];
+    }
+    
+    /**
+     * Most frequent surface form of the topic, or the topic itself if none was recorded
+     */
+    public String label(int id) {
+        String label = surfaces[id].mostFrequent();
+        return label != null ? label : topics[id];
+    }
+    
+    /**
+     * Number of posts mentioning the topic
+     */
+    public int postingSize(int id) {
+        return postingSizes[id];
+    }
+    
+    /**
+     * Post ordinals mentioning the topic in ascending order; only the first
+     * {@link #postingSize(int)} entries are valid
+     */
+    public int[] postings(int id) {
+        return postings[id];
+    }
+    
+    private int idOf(char[] buffer, int offset, int length) {
+        int hash = CharHash.hash(buffer, offset, length);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        
+        while (slots[slot] != -1) {
+            int id = slots[slot];
+            if (hashes[id] == hash && matches(topics[id], buffer, offset, length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        int id = size++;
+        if (id == topics.length) {
+            int capacity = id * 2;
+            topics = Arrays.copyOf(topics, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            postings = Arrays.copyOf(postings, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+            surfaces = Arrays.copyOf(surfaces, capacity);
+        }
+        topics[id] = new String(buffer, offset, length);
+        hashes[id] = hash;
+        postings[id] = new int[4];
+        surfaces[id] = new SurfaceCounts();
+        slots[slot] = id;
+        
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+    
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        Arrays.fill(slots, -1);
+        int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+    }
+    
+    private static boolean matches(String topic, char[] buffer, int offset, int length) {
+        if (topic.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (topic.charAt(i) != buffer[offset + i]) return false;
+        }
+        return true;
+    }
+}
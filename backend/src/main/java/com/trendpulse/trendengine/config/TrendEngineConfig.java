@@ -0,0 +1,31 @@
+package com.trendpulse.trendengine.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Thread pools used by the trend engine
+ */
+@Slf4j
+@Configuration
+public class TrendEngineConfig {
+    
+    @Value("${app.trend.detection.parallelism:0}")
+    private int parallelism;
+    
+    /**
+     * Bounded pool for fanning out per-topic metric computation.
+     * A parallelism of 0 uses one worker per available core.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool trendMetricsPool() {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        log.info("Initializing trend metrics pool with parallelism: {}", workers);
+        
+        return new ForkJoinPool(workers);
+    }
+}
@@ -0,0 +1,112 @@
+package com.trendpulse.trendengine.controller;
+
+import com.trendpulse.common.dto.ApiResponse;
+import com.trendpulse.trendengine.dto.BackfillJobResponse;
+import com.trendpulse.trendengine.model.TrendBackfillJob;
+import com.trendpulse.trendengine.service.TrendBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Controller for replaying stored Reddit data through trend detection (admin)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/trends/backfill")
+@RequiredArgsConstructor
+public class TrendBackfillController {
+    
+    private final TrendBackfillService trendBackfillService;
+    
+    /**
+     * Start a backfill over all objects of a subreddit stored in [from, to]
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<BackfillJobResponse>> startBackfill(
+            @RequestParam String subreddit,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        
+        log.info("Backfill triggered for r/{} from {} to {}", subreddit, from, to);
+        
+        TrendBackfillJob job = trendBackfillService.start(subreddit, from, to);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Backfill job " + job.getId() + " started",
+                mapToResponse(job)
+        ));
+    }
+    
+    /**
+     * Get recent backfill jobs
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BackfillJobResponse>>> getRecentJobs() {
+        List<BackfillJobResponse> response = trendBackfillService.getRecentJobs().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    /**
+     * Get backfill job progress
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<BackfillJobResponse>> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(mapToResponse(trendBackfillService.getJob(id))));
+    }
+    
+    /**
+     * Resume a failed, cancelled or interrupted job from its checkpoint
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ApiResponse<BackfillJobResponse>> resumeJob(@PathVariable Long id) {
+        TrendBackfillJob job = trendBackfillService.resume(id);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Backfill job " + id + " resumed",
+                mapToResponse(job)
+        ));
+    }
+    
+    /**
+     * Cancel a job after its current page
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<BackfillJobResponse>> cancelJob(@PathVariable Long id) {
+        TrendBackfillJob job = trendBackfillService.cancel(id);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Backfill job " + id + " cancellation requested",
+                mapToResponse(job)
+        ));
+    }
+    
+    /**
+     * Map TrendBackfillJob entity to response DTO
+     */
+    private BackfillJobResponse mapToResponse(TrendBackfillJob job) {
+        return BackfillJobResponse.builder()
+                .id(job.getId())
+                .subreddit(job.getSubreddit())
+                .rangeStart(job.getRangeStart())
+                .rangeEnd(job.getRangeEnd())
+                .status(job.getStatus())
+                .checkpointKey(job.getCheckpointKey())
+                .objectsProcessed(job.getObjectsProcessed())
+                .trendsDetected(job.getTrendsDetected())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
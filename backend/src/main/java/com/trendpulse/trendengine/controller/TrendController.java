@@ -1,9 +1,11 @@
 package com.trendpulse.trendengine.controller;
 
 import com.trendpulse.common.dto.ApiResponse;
+import com.trendpulse.trendengine.dto.GlobalTrendResponse;
 import com.trendpulse.trendengine.dto.TrendResponse;
 import com.trendpulse.trendengine.model.Trend;
 import com.trendpulse.trendengine.repository.TrendRepository;
+import com.trendpulse.trendengine.service.GlobalTrendTracker;
 import com.trendpulse.trendengine.service.TrendDetectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,7 @@ public class TrendController {
     
     private final TrendDetectionService trendDetectionService;
     private final TrendRepository trendRepository;
+    private final GlobalTrendTracker globalTrendTracker;
     
     /**
      * Get all active trends
@@ -79,6 +82,41 @@ public class TrendController {
         ));
     }
     
+    /**
+     * Get trends whose velocity is spiking against their own history
+     */
+    @GetMapping("/breaking")
+    public ResponseEntity<ApiResponse<List<TrendResponse>>> getBreakingTrends(
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<Trend> trends = trendDetectionService.getBreakingTrends(limit);
+        
+        List<TrendResponse> responses = trends.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Breaking trends retrieved",
+                responses
+        ));
+    }
+    
+    /**
+     * Get topics trending across several subreddits at once
+     */
+    @GetMapping("/global")
+    public ResponseEntity<ApiResponse<List<GlobalTrendResponse>>> getGlobalTrends(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "2") int minSubreddits) {
+        
+        List<GlobalTrendResponse> trends = globalTrendTracker.getGlobalTrends(limit, minSubreddits);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Global trends retrieved",
+                trends
+        ));
+    }
+    
     /**
      * Get trends by subreddit
      */
@@ -103,12 +141,10 @@ public class TrendController {
      */
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<TrendResponse>>> searchTrends(
-            @RequestParam String q) {
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
         
-        List<Trend> trends = trendRepository.findTopActiveTrends().stream()
-                .filter(t -> t.getTopic().toLowerCase().contains(q.toLowerCase()))
-                .limit(20)
-                .toList();
+        List<Trend> trends = trendDetectionService.searchTrends(q, limit);
         
         List<TrendResponse> responses = trends.stream()
                 .map(this::mapToResponse)
@@ -171,6 +207,8 @@ public class TrendController {
                 .postCount(trend.getPostCount())
                 .commentCount(trend.getCommentCount())
                 .upvoteCount(trend.getUpvoteCount())
+                .burstScore(trend.getBurstScore())
+                .breaking(trend.getBreaking())
                 .status(trend.getStatus())
                 .detectedAt(trend.getDetectedAt())
                 .firstSeenAt(trend.getFirstSeenAt())
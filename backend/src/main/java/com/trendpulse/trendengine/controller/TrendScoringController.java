@@ -0,0 +1,101 @@
+package com.trendpulse.trendengine.controller;
+
+import com.trendpulse.common.dto.ApiResponse;
+import com.trendpulse.trendengine.dto.ScoringConfigResponse;
+import com.trendpulse.trendengine.scoring.TrendScorerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for switching trend scoring models at runtime (admin)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/trends/scoring")
+@RequiredArgsConstructor
+public class TrendScoringController {
+    
+    private final TrendScorerRegistry trendScorerRegistry;
+    
+    /**
+     * Get the active scorer selection
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ScoringConfigResponse>> getScoring() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "Scoring configuration retrieved",
+                toResponse()
+        ));
+    }
+    
+    /**
+     * Set the scorer for subreddits without their own selection
+     */
+    @PutMapping("/default")
+    public ResponseEntity<ApiResponse<ScoringConfigResponse>> setDefaultScorer(
+            @RequestParam String scorer) {
+        
+        trendScorerRegistry.setDefaultScorer(scorer);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Default scorer set to " + scorer,
+                toResponse()
+        ));
+    }
+    
+    /**
+     * Set the scorer for one subreddit
+     */
+    @PutMapping("/subreddit/{subreddit}")
+    public ResponseEntity<ApiResponse<ScoringConfigResponse>> setSubredditScorer(
+            @PathVariable String subreddit,
+            @RequestParam String scorer) {
+        
+        trendScorerRegistry.setSubredditScorer(subreddit, scorer);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Scorer for r/" + subreddit + " set to " + scorer,
+                toResponse()
+        ));
+    }
+    
+    /**
+     * Make a subreddit use the default scorer again
+     */
+    @DeleteMapping("/subreddit/{subreddit}")
+    public ResponseEntity<ApiResponse<ScoringConfigResponse>> clearSubredditScorer(
+            @PathVariable String subreddit) {
+        
+        trendScorerRegistry.setSubredditScorer(subreddit, null);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Scorer for r/" + subreddit + " reset to default",
+                toResponse()
+        ));
+    }
+    
+    /**
+     * Discard runtime changes and apply the selection configured at startup
+     */
+    @DeleteMapping("/overrides")
+    public ResponseEntity<ApiResponse<ScoringConfigResponse>> resetOverrides() {
+        log.info("Resetting runtime trend scoring overrides");
+        
+        trendScorerRegistry.resetOverrides();
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                "Scoring overrides reset to configuration",
+                toResponse()
+        ));
+    }
+    
+    private ScoringConfigResponse toResponse() {
+        return ScoringConfigResponse.builder()
+                .defaultScorer(trendScorerRegistry.getDefaultScorer())
+                .subredditScorers(trendScorerRegistry.getSubredditScorers())
+                .availableScorers(trendScorerRegistry.getAvailableScorers())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.trendpulse.trendengine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Trend backfill job response DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillJobResponse {
+    
+    private Long id;
+    private String subreddit;
+    private Instant rangeStart;
+    private Instant rangeEnd;
+    private String status;
+    private String checkpointKey;
+    private Integer objectsProcessed;
+    private Integer trendsDetected;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,24 @@
+package com.trendpulse.trendengine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cross-subreddit trend response DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlobalTrendResponse {
+    
+    private String topic;
+    private Long mentions;
+    private Long maxOverestimate;
+    private Integer subredditCount;
+    private List<String> subreddits;
+}
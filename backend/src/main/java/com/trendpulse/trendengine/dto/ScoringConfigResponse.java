@@ -0,0 +1,23 @@
+package com.trendpulse.trendengine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Active trend scorer selection DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringConfigResponse {
+    
+    private String defaultScorer;
+    private Map<String, String> subredditScorers;
+    private List<String> availableScorers;
+}
@@ -25,6 +25,8 @@ public class TrendResponse {
     private Integer postCount;
     private Integer commentCount;
     private Integer upvoteCount;
+    private Double burstScore;
+    private Boolean breaking;
     private String status;
     private Instant detectedAt;
     private Instant firstSeenAt;
@@ -0,0 +1,41 @@
+package com.trendpulse.trendengine.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Persisted engagement baseline of a subreddit. The histogram holds the bucket
+ * counts of an {@code EngagementHistogram} as big-endian doubles; median and MAD
+ * are stored alongside for inspection.
+ */
+@Entity
+@Table(name = "subreddit_baselines")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubredditBaseline {
+    
+    @Id
+    private String subreddit;
+    
+    @Column(nullable = false, columnDefinition = "BYTEA")
+    private byte[] histogram;
+    
+    @Column(nullable = false)
+    private Double samples;
+    
+    @Column(name = "median_engagement")
+    private Double medianEngagement;
+    
+    @Column(name = "mad_engagement")
+    private Double madEngagement;
+    
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -16,7 +16,8 @@ import java.time.Instant;
     @Index(name = "idx_trends_topic", columnList = "topic"),
     @Index(name = "idx_trends_subreddit", columnList = "subreddit"),
     @Index(name = "idx_trends_score", columnList = "trend_score"),
-    @Index(name = "idx_trends_detected_at", columnList = "detected_at")
+    @Index(name = "idx_trends_detected_at", columnList = "detected_at"),
+    @Index(name = "idx_trends_topic_key_subreddit", columnList = "topic_key, subreddit", unique = true)
 })
 @Data
 @Builder
@@ -28,9 +29,18 @@ public class Trend {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    /**
+     * Display label: the most frequent surface form of the topic
+     */
     @Column(nullable = false, length = 500)
     private String topic;
     
+    /**
+     * Canonical grouping key (stems and aliases) the topic is tracked under
+     */
+    @Column(name = "topic_key", nullable = false, length = 500)
+    private String topicKey;
+    
     @Column(nullable = false)
     private String subreddit;
     
@@ -58,6 +68,14 @@ public class Trend {
     @Builder.Default
     private Integer upvoteCount = 0;
     
+    @Column(name = "burst_score", nullable = false)
+    @Builder.Default
+    private Double burstScore = 0.0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean breaking = false;
+    
     @Column(name = "raw_data_path", columnDefinition = "TEXT")
     private String rawDataPath;
     
@@ -70,6 +88,9 @@ public class Trend {
     @Column(name = "last_updated_at", nullable = false)
     private Instant lastUpdatedAt;
     
+    @Column(name = "decayed_at")
+    private Instant decayedAt;
+    
     @Column(nullable = false)
     @Builder.Default
     private String status = "active";
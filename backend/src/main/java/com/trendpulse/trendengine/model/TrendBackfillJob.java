@@ -0,0 +1,116 @@
+package com.trendpulse.trendengine.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Replay of stored Reddit objects of one subreddit through trend detection.
+ * The checkpoint is the last object key whose trends are saved, so an interrupted
+ * job resumes right after it.
+ */
+@Entity
+@Table(name = "trend_backfill_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendBackfillJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String subreddit;
+    
+    @Column(name = "range_start", nullable = false)
+    private Instant rangeStart;
+    
+    @Column(name = "range_end", nullable = false)
+    private Instant rangeEnd;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private String status = "pending";
+    
+    @Column(name = "checkpoint_key", columnDefinition = "TEXT")
+    private String checkpointKey;
+    
+    @Column(name = "objects_processed", nullable = false)
+    @Builder.Default
+    private Integer objectsProcessed = 0;
+    
+    @Column(name = "trends_detected", nullable = false)
+    @Builder.Default
+    private Integer trendsDetected = 0;
+    
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+    
+    @Column(name = "completed_at")
+    private Instant completedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+        updatedAt = createdAt;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+    
+    /**
+     * Mark job as running, clearing the error of a previous attempt
+     */
+    public void markRunning() {
+        this.status = "running";
+        this.errorMessage = null;
+    }
+    
+    /**
+     * Advance the checkpoint past a fully saved page of objects
+     */
+    public void recordProgress(String checkpointKey, int objects, int trends) {
+        this.checkpointKey = checkpointKey;
+        this.objectsProcessed += objects;
+        this.trendsDetected += trends;
+    }
+    
+    /**
+     * Mark job as completed
+     */
+    public void markCompleted() {
+        this.status = "completed";
+        this.completedAt = Instant.now();
+    }
+    
+    /**
+     * Mark job as cancelled; it can be resumed from its checkpoint
+     */
+    public void markCancelled() {
+        this.status = "cancelled";
+    }
+    
+    /**
+     * Mark job as failed; it can be resumed from its checkpoint
+     */
+    public void markFailed(String errorMessage) {
+        this.status = "failed";
+        this.errorMessage = errorMessage;
+    }
+}
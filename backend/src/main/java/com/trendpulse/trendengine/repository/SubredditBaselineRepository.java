@@ -0,0 +1,12 @@
+package com.trendpulse.trendengine.repository;
+
+import com.trendpulse.trendengine.model.SubredditBaseline;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for SubredditBaseline entity
+ */
+@Repository
+public interface SubredditBaselineRepository extends JpaRepository<SubredditBaseline, String> {
+}
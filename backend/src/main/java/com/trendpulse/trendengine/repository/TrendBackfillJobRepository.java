@@ -0,0 +1,18 @@
+package com.trendpulse.trendengine.repository;
+
+import com.trendpulse.trendengine.model.TrendBackfillJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for TrendBackfillJob entity
+ */
+@Repository
+public interface TrendBackfillJobRepository extends JpaRepository<TrendBackfillJob, Long> {
+    
+    List<TrendBackfillJob> findTop50ByOrderByCreatedAtDesc();
+    
+    List<TrendBackfillJob> findByStatus(String status);
+}
@@ -1,8 +1,10 @@
 package com.trendpulse.trendengine.repository;
 
 import com.trendpulse.trendengine.model.Trend;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -13,7 +15,7 @@ import java.util.Optional;
  * Repository for Trend entity
  */
 @Repository
-public interface TrendRepository extends JpaRepository<Trend, Long> {
+public interface TrendRepository extends JpaRepository<Trend, Long>, TrendRepositoryCustom {
     
     Optional<Trend> findByTopicAndSubreddit(String topic, String subreddit);
     
@@ -22,7 +24,18 @@ public interface TrendRepository extends JpaRepository<Trend, Long> {
     List<Trend> findByStatusOrderByTrendScoreDesc(String status);
     
     @Query("SELECT t FROM Trend t WHERE t.status = 'active' ORDER BY t.trendScore DESC")
-    List<Trend> findTopActiveTrends();
+    List<Trend> findTopActiveTrends(Pageable pageable);
+    
+    /**
+     * Active trends whose topic contains the query, case-insensitively; the caller
+     * escapes LIKE wildcards in the query with a backslash
+     */
+    @Query(value = "SELECT * FROM trends WHERE status = 'active' AND topic ILIKE '%' || :query || '%' " +
+            "ORDER BY trend_score DESC", nativeQuery = true)
+    List<Trend> searchActiveTrends(@Param("query") String query, Pageable pageable);
+    
+    @Query("SELECT t FROM Trend t WHERE t.status = 'active' AND t.breaking = true ORDER BY t.burstScore DESC")
+    List<Trend> findBreakingTrends(Pageable pageable);
     
     @Query("SELECT t FROM Trend t WHERE t.detectedAt >= :since ORDER BY t.trendScore DESC")
     List<Trend> findRecentTrends(Instant since);
@@ -0,0 +1,46 @@
+package com.trendpulse.trendengine.repository;
+
+import com.trendpulse.trendengine.model.Trend;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Custom bulk operations for Trend entity
+ */
+public interface TrendRepositoryCustom {
+    
+    /**
+     * Insert or update trends by (topic key, subreddit) in a single JDBC batch,
+     * refreshing the display topic. Sets the database id on each given trend and
+     * returns the same list.
+     */
+    List<Trend> upsertAll(List<Trend> trends);
+    
+    /**
+     * Write trends replayed from history as of {@code asOf}. New rows are inserted
+     * with {@code status} and historical timestamps; existing rows are only updated
+     * when they were last updated at or before {@code asOf}, and keep their status.
+     * Sets the database id on each given trend and returns the same list.
+     */
+    List<Trend> replayAll(List<Trend> trends, Instant asOf, String status);
+    
+    /**
+     * Exponentially decay the scores of up to {@code batchSize} non-expired trends
+     * that have been neither updated nor decayed since {@code idleBefore}.
+     * Returns the number of trends decayed.
+     */
+    int decayScores(Instant now, Instant idleBefore, double halfLifeSeconds, int batchSize);
+    
+    /**
+     * Move up to {@code batchSize} active trends that went stale, or that fell below
+     * {@code minScore} and are not breaking, to cooling. Returns the number of trends moved.
+     */
+    int coolTrends(Instant staleBefore, double minScore, int batchSize);
+    
+    /**
+     * Move up to {@code batchSize} cooling trends not updated since
+     * {@code expireBefore} to expired. Returns the number of trends moved.
+     */
+    int expireTrends(Instant expireBefore, int batchSize);
+}
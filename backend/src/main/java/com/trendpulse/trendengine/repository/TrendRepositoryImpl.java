@@ -0,0 +1,225 @@
+package com.trendpulse.trendengine.repository;
+
+import com.trendpulse.trendengine.model.Trend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of bulk Trend operations using PostgreSQL upserts
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TrendRepositoryImpl implements TrendRepositoryCustom {
+    
+    private static final String UPSERT_SQL = """
+            INSERT INTO trends (topic_key, topic, subreddit, trend_score, velocity, engagement_rate,
+                                post_count, comment_count, upvote_count, burst_score, breaking,
+                                raw_data_path, status, detected_at, first_seen_at, last_updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'active', ?, ?, ?)
+            ON CONFLICT (topic_key, subreddit) DO UPDATE SET
+                topic = EXCLUDED.topic,
+                trend_score = EXCLUDED.trend_score,
+                velocity = EXCLUDED.velocity,
+                engagement_rate = EXCLUDED.engagement_rate,
+                post_count = EXCLUDED.post_count,
+                comment_count = EXCLUDED.comment_count,
+                upvote_count = EXCLUDED.upvote_count,
+                burst_score = EXCLUDED.burst_score,
+                breaking = EXCLUDED.breaking,
+                raw_data_path = EXCLUDED.raw_data_path,
+                status = 'active',
+                last_updated_at = EXCLUDED.last_updated_at
+            """;
+    
+    // Never overwrite rows updated after the replayed snapshot, and leave status to the lifecycle
+    private static final String REPLAY_SQL = """
+            INSERT INTO trends (topic_key, topic, subreddit, trend_score, velocity, engagement_rate,
+                                post_count, comment_count, upvote_count, burst_score, breaking,
+                                raw_data_path, status, detected_at, first_seen_at, last_updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (topic_key, subreddit) DO UPDATE SET
+                topic = EXCLUDED.topic,
+                trend_score = EXCLUDED.trend_score,
+                velocity = EXCLUDED.velocity,
+                engagement_rate = EXCLUDED.engagement_rate,
+                post_count = EXCLUDED.post_count,
+                comment_count = EXCLUDED.comment_count,
+                upvote_count = EXCLUDED.upvote_count,
+                burst_score = EXCLUDED.burst_score,
+                breaking = EXCLUDED.breaking,
+                raw_data_path = EXCLUDED.raw_data_path,
+                first_seen_at = LEAST(trends.first_seen_at, EXCLUDED.first_seen_at),
+                last_updated_at = EXCLUDED.last_updated_at,
+                decayed_at = NULL
+            WHERE trends.last_updated_at <= EXCLUDED.last_updated_at
+            """;
+    
+    private static final String FIND_IDS_SQL = """
+            SELECT t.id, t.topic_key, t.subreddit FROM trends t
+            JOIN unnest(?::text[], ?::text[]) AS k(topic_key, subreddit)
+              ON t.topic_key = k.topic_key AND t.subreddit = k.subreddit
+            """;
+    
+    // Decay by the time elapsed since the score was last written or decayed
+    private static final String DECAY_SQL = """
+            UPDATE trends SET
+                trend_score = trend_score * power(0.5,
+                    EXTRACT(EPOCH FROM (? - GREATEST(last_updated_at, COALESCE(decayed_at, last_updated_at)))) / ?),
+                decayed_at = ?
+            WHERE id IN (
+                SELECT id FROM trends
+                WHERE status <> 'expired'
+                  AND GREATEST(last_updated_at, COALESCE(decayed_at, last_updated_at)) < ?
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            """;
+    
+    private static final String COOL_SQL = """
+            UPDATE trends SET status = 'cooling'
+            WHERE id IN (
+                SELECT id FROM trends
+                WHERE status = 'active' AND (last_updated_at < ? OR (trend_score < ? AND NOT breaking))
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            """;
+    
+    private static final String EXPIRE_SQL = """
+            UPDATE trends SET status = 'expired'
+            WHERE id IN (
+                SELECT id FROM trends
+                WHERE status = 'cooling' AND last_updated_at < ?
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<Trend> upsertAll(List<Trend> trends) {
+        if (trends.isEmpty()) {
+            return trends;
+        }
+        
+        Instant now = Instant.now();
+        Timestamp timestamp = Timestamp.from(now);
+        
+        return jdbcTemplate.execute((ConnectionCallback<List<Trend>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL, new String[] {"id"})) {
+                for (Trend trend : trends) {
+                    statement.setString(1, trend.getTopicKey());
+                    statement.setString(2, trend.getTopic());
+                    statement.setString(3, trend.getSubreddit());
+                    statement.setDouble(4, trend.getTrendScore());
+                    statement.setDouble(5, trend.getVelocity());
+                    statement.setDouble(6, trend.getEngagementRate());
+                    statement.setInt(7, trend.getPostCount());
+                    statement.setInt(8, trend.getCommentCount());
+                    statement.setInt(9, trend.getUpvoteCount());
+                    statement.setDouble(10, trend.getBurstScore());
+                    statement.setBoolean(11, trend.getBreaking());
+                    statement.setString(12, trend.getRawDataPath());
+                    statement.setTimestamp(13, timestamp);
+                    statement.setTimestamp(14, timestamp);
+                    statement.setTimestamp(15, timestamp);
+                    statement.addBatch();
+                }
+                
+                statement.executeBatch();
+                
+                // Generated keys come back in batch order for both inserted and updated rows
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next()) {
+                        Trend trend = trends.get(index++);
+                        trend.setId(keys.getLong(1));
+                        trend.setStatus("active");
+                        trend.setLastUpdatedAt(now);
+                    }
+                }
+            }
+            
+            log.debug("Upserted {} trends in one batch", trends.size());
+            return trends;
+        });
+    }
+    
+    @Override
+    public List<Trend> replayAll(List<Trend> trends, Instant asOf, String status) {
+        if (trends.isEmpty()) {
+            return trends;
+        }
+        
+        Timestamp timestamp = Timestamp.from(asOf);
+        jdbcTemplate.batchUpdate(REPLAY_SQL, trends, trends.size(), (statement, trend) -> {
+            statement.setString(1, trend.getTopicKey());
+            statement.setString(2, trend.getTopic());
+            statement.setString(3, trend.getSubreddit());
+            statement.setDouble(4, trend.getTrendScore());
+            statement.setDouble(5, trend.getVelocity());
+            statement.setDouble(6, trend.getEngagementRate());
+            statement.setInt(7, trend.getPostCount());
+            statement.setInt(8, trend.getCommentCount());
+            statement.setInt(9, trend.getUpvoteCount());
+            statement.setDouble(10, trend.getBurstScore());
+            statement.setBoolean(11, trend.getBreaking());
+            statement.setString(12, trend.getRawDataPath());
+            statement.setString(13, status);
+            statement.setTimestamp(14, timestamp);
+            statement.setTimestamp(15, timestamp);
+            statement.setTimestamp(16, timestamp);
+        });
+        
+        // Skipped rows return no generated key, so look the ids up by key instead
+        Map<String, Trend> byKey = new HashMap<>();
+        for (Trend trend : trends) {
+            byKey.put(trend.getSubreddit() + '\n' + trend.getTopicKey(), trend);
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(FIND_IDS_SQL)) {
+                statement.setArray(1, connection.createArrayOf("text",
+                        trends.stream().map(Trend::getTopicKey).toArray()));
+                statement.setArray(2, connection.createArrayOf("text",
+                        trends.stream().map(Trend::getSubreddit).toArray()));
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        Trend trend = byKey.get(rows.getString(3) + '\n' + rows.getString(2));
+                        if (trend != null) {
+                            trend.setId(rows.getLong(1));
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+        
+        log.debug("Replayed {} trends as of {}", trends.size(), asOf);
+        return trends;
+    }
+    
+    @Override
+    public int decayScores(Instant now, Instant idleBefore, double halfLifeSeconds, int batchSize) {
+        Timestamp timestamp = Timestamp.from(now);
+        return jdbcTemplate.update(DECAY_SQL,
+                timestamp, halfLifeSeconds, timestamp, Timestamp.from(idleBefore), batchSize);
+    }
+    
+    @Override
+    public int coolTrends(Instant staleBefore, double minScore, int batchSize) {
+        return jdbcTemplate.update(COOL_SQL, Timestamp.from(staleBefore), minScore, batchSize);
+    }
+    
+    @Override
+    public int expireTrends(Instant expireBefore, int batchSize) {
+        return jdbcTemplate.update(EXPIRE_SQL, Timestamp.from(expireBefore), batchSize);
+    }
+}
@@ -0,0 +1,65 @@
+package com.trendpulse.trendengine.scoring;
+
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hacker News style ranking: total engagement points divided by a power of the
+ * topic's age, so older topics need ever more activity to stay on top.
+ *
+ * The raw ranking is rescaled onto the linear scorer's scale: a reference topic
+ * (the smallest topic at the subreddit's median engagement, a couple of hours old)
+ * scores the same under both, so the detection and cooling thresholds keep their
+ * meaning when a subreddit switches scorer.
+ */
+@Component
+@RequiredArgsConstructor
+public class GravityTrendScorer implements TrendScorer {
+    
+    public static final String NAME = "gravity";
+    
+    // Reference topic used to calibrate against the linear scorer
+    private static final int REFERENCE_POSTS = 3;
+    private static final double REFERENCE_AGE_HOURS = 2.0;
+    
+    private final LinearTrendScorer linearTrendScorer;
+    
+    @Value("${app.trend.scoring.gravity.exponent:1.8}")
+    private double gravity;
+    
+    @Value("${app.trend.baseline.reference-median:40.0}")
+    private double referenceEngagement;
+    
+    private double scale;
+    
+    @PostConstruct
+    public void initialize() {
+        TrendMetrics reference = TrendMetrics.builder()
+                .postCount(REFERENCE_POSTS)
+                .averageAgeHours(REFERENCE_AGE_HOURS)
+                .velocity(REFERENCE_POSTS / REFERENCE_AGE_HOURS)
+                .engagementRate(referenceEngagement)
+                .relativeEngagement(referenceEngagement)
+                .build();
+        scale = linearTrendScorer.score(reference) / rank(reference);
+    }
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public double score(TrendMetrics metrics) {
+        return rank(metrics) * scale;
+    }
+    
+    private double rank(TrendMetrics metrics) {
+        // Total engagement points, scaled to the subreddit baseline when one is available
+        double points = metrics.scoringEngagement() * metrics.getPostCount();
+        return Math.max(points - 1, 0) / Math.pow(metrics.getAverageAgeHours() + 2, gravity);
+    }
+}
@@ -0,0 +1,30 @@
+package com.trendpulse.trendengine.scoring;
+
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Weighted sum of velocity and engagement rate (relative to the subreddit baseline)
+ */
+@Component
+public class LinearTrendScorer implements TrendScorer {
+    
+    public static final String NAME = "linear";
+    
+    @Value("${app.trend.detection.velocity-weight}")
+    private double velocityWeight;
+    
+    @Value("${app.trend.detection.engagement-weight}")
+    private double engagementWeight;
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public double score(TrendMetrics metrics) {
+        return (metrics.getVelocity() * velocityWeight) + (metrics.scoringEngagement() * engagementWeight);
+    }
+}
@@ -0,0 +1,24 @@
+package com.trendpulse.trendengine.scoring;
+
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+
+/**
+ * Scoring model that turns a topic's metrics into its trend score.
+ *
+ * Implementations are Spring beans registered in {@link TrendScorerRegistry} under
+ * {@link #name()} and must be stateless and thread-safe.
+ */
+public interface TrendScorer {
+    
+    /**
+     * Name used to select the scorer in configuration
+     */
+    String name();
+    
+    /**
+     * Compute the trend score; higher means more trending. Scores are on the linear
+     * scorer's scale, since one {@code app.trend.detection.min-score} decides both
+     * detection and cooling whichever scorer a subreddit uses.
+     */
+    double score(TrendMetrics metrics);
+}
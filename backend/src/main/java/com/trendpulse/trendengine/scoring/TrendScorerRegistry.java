@@ -0,0 +1,130 @@
+package com.trendpulse.trendengine.scoring;
+
+import com.trendpulse.common.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the {@link TrendScorer} for each subreddit.
+ *
+ * Starts from {@link TrendScoringProperties}; the default and per-subreddit
+ * selections can be changed at runtime and take effect on the next analysis.
+ * Selections are swapped as an immutable snapshot, so lookups never lock.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendScorerRegistry {
+    
+    private final List<TrendScorer> scorerBeans;
+    private final TrendScoringProperties properties;
+    
+    private Map<String, TrendScorer> scorers;
+    private volatile Selection selection;
+    
+    @PostConstruct
+    public void initialize() {
+        scorers = scorerBeans.stream()
+                .collect(Collectors.toUnmodifiableMap(TrendScorer::name, Function.identity()));
+        resetOverrides();
+    }
+    
+    /**
+     * Scorer for a subreddit, falling back to the default scorer
+     */
+    public TrendScorer forSubreddit(String subreddit) {
+        Selection current = selection;
+        if (subreddit == null) {
+            return current.defaultScorer;
+        }
+        return current.subreddits.getOrDefault(normalize(subreddit), current.defaultScorer);
+    }
+    
+    /**
+     * Discard runtime changes and apply the selection configured at startup again
+     */
+    public synchronized void resetOverrides() {
+        Map<String, TrendScorer> perSubreddit = new HashMap<>();
+        properties.getSubreddits().forEach((subreddit, scorer) ->
+                perSubreddit.put(normalize(subreddit), resolve(scorer)));
+        selection = new Selection(resolve(properties.getDefaultScorer()), Map.copyOf(perSubreddit));
+        
+        log.info("Trend scoring: default '{}', {} subreddit overrides",
+                selection.defaultScorer.name(), selection.subreddits.size());
+    }
+    
+    /**
+     * Change the scorer used for subreddits without their own selection
+     */
+    public synchronized void setDefaultScorer(String scorer) {
+        selection = new Selection(resolve(scorer), selection.subreddits);
+        log.info("Default trend scorer set to '{}'", scorer);
+    }
+    
+    /**
+     * Select a scorer for a subreddit, or clear its selection when {@code scorer} is null
+     */
+    public synchronized void setSubredditScorer(String subreddit, String scorer) {
+        Map<String, TrendScorer> perSubreddit = new HashMap<>(selection.subreddits);
+        if (scorer == null) {
+            perSubreddit.remove(normalize(subreddit));
+        } else {
+            perSubreddit.put(normalize(subreddit), resolve(scorer));
+        }
+        selection = new Selection(selection.defaultScorer, Map.copyOf(perSubreddit));
+        log.info("Trend scorer for r/{} set to '{}'", subreddit, scorer != null ? scorer : "default");
+    }
+    
+    public String getDefaultScorer() {
+        return selection.defaultScorer.name();
+    }
+    
+    /**
+     * Current per-subreddit selections by scorer name
+     */
+    public Map<String, String> getSubredditScorers() {
+        Map<String, String> names = new TreeMap<>();
+        selection.subreddits.forEach((subreddit, scorer) -> names.put(subreddit, scorer.name()));
+        return names;
+    }
+    
+    public List<String> getAvailableScorers() {
+        return List.copyOf(new TreeSet<>(scorers.keySet()));
+    }
+    
+    private TrendScorer resolve(String name) {
+        TrendScorer scorer = name != null ? scorers.get(name.trim().toLowerCase(Locale.ROOT)) : null;
+        if (scorer == null) {
+            throw new ResourceNotFoundException("Trend scorer", String.valueOf(name));
+        }
+        return scorer;
+    }
+    
+    private static String normalize(String subreddit) {
+        return subreddit.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Immutable scorer selection
+     */
+    private static class Selection {
+        private final TrendScorer defaultScorer;
+        private final Map<String, TrendScorer> subreddits;
+        
+        Selection(TrendScorer defaultScorer, Map<String, TrendScorer> subreddits) {
+            this.defaultScorer = defaultScorer;
+            this.subreddits = subreddits;
+        }
+    }
+}
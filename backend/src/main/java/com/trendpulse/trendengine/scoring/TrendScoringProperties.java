@@ -0,0 +1,29 @@
+package com.trendpulse.trendengine.scoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configured scorer selection from {@code app.trend.scoring}
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.trend.scoring")
+public class TrendScoringProperties {
+    
+    /**
+     * Scorer used for subreddits without an explicit selection
+     */
+    private String defaultScorer = LinearTrendScorer.NAME;
+    
+    /**
+     * Scorer per subreddit, e.g. programming: wilson
+     */
+    private Map<String, String> subreddits = new HashMap<>();
+}
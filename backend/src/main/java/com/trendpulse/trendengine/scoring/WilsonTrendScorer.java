@@ -0,0 +1,48 @@
+package com.trendpulse.trendengine.scoring;
+
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Linear score weighted by the Wilson lower bound of the topic's upvote ratio,
+ * so topics with few or divided votes rank below clearly approved ones
+ */
+@Component
+@RequiredArgsConstructor
+public class WilsonTrendScorer implements TrendScorer {
+    
+    public static final String NAME = "wilson";
+    
+    private final LinearTrendScorer linearTrendScorer;
+    
+    @Value("${app.trend.scoring.wilson.z:1.96}")
+    private double z;
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public double score(TrendMetrics metrics) {
+        return linearTrendScorer.score(metrics) * lowerBound(metrics.getUps(), metrics.getVotes());
+    }
+    
+    /**
+     * Lower bound of the Wilson score interval for {@code positive} out of {@code total}
+     */
+    double lowerBound(long positive, long total) {
+        if (total <= 0) {
+            return 0.0;
+        }
+        
+        double n = total;
+        double p = Math.min(positive, total) / n;
+        double z2 = z * z;
+        double center = p + z2 / (2 * n);
+        double margin = z * Math.sqrt((p * (1 - p) + z2 / (4 * n)) / n);
+        return (center - margin) / (1 + z2 / n);
+    }
+}
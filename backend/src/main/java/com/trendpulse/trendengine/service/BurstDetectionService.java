@@ -0,0 +1,94 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.trendengine.analysis.CountMinSketch;
+import com.trendpulse.trendengine.analysis.EwmaTable;
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for flagging sudden bursts in topic velocity.
+ *
+ * Keeps an exponentially weighted mean and variance of each (subreddit, topic)
+ * velocity in memory and scores every new evaluation as a z-score against that
+ * history, so a spike stands out even when its absolute score is below that of a
+ * consistently large topic. Evaluations never touch the database.
+ */
+@Slf4j
+@Service
+public class BurstDetectionService {
+    
+    @Value("${app.trend.burst.alpha:0.3}")
+    private double alpha;
+    
+    @Value("${app.trend.burst.z-threshold:3.0}")
+    private double zThreshold;
+    
+    @Value("${app.trend.burst.min-samples:5}")
+    private int minSamples;
+    
+    @Value("${app.trend.burst.min-std-dev:1.0}")
+    private double minStdDev;
+    
+    @Value("${app.trend.burst.retention-hours:24}")
+    private long retentionHours;
+    
+    private EwmaTable velocityStats;
+    private char[] keyBuffer = new char[64];
+    
+    @PostConstruct
+    public void initialize() {
+        velocityStats = new EwmaTable(alpha, minSamples, minStdDev);
+    }
+    
+    /**
+     * Score each topic's velocity against its history and set the burst z-score
+     * and breaking flag on its metrics
+     */
+    public void evaluate(String subreddit, Map<String, TrendMetrics> topicMetrics) {
+        long now = Instant.now().getEpochSecond();
+        
+        synchronized (this) {
+            for (Map.Entry<String, TrendMetrics> entry : topicMetrics.entrySet()) {
+                TrendMetrics metrics = entry.getValue();
+                double zScore = velocityStats.observe(key(subreddit, entry.getKey()), metrics.getVelocity(), now);
+                
+                boolean scored = !Double.isNaN(zScore);
+                metrics.setBurstScore(scored ? zScore : 0.0);
+                metrics.setBreaking(scored && zScore >= zThreshold);
+            }
+        }
+    }
+    
+    /**
+     * Forget topics that have not been evaluated within the retention window
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.HOURS)
+    public synchronized void prune() {
+        long before = Instant.now().minusSeconds(retentionHours * 3600).getEpochSecond();
+        int kept = velocityStats.prune(before);
+        log.debug("Pruned burst statistics, {} topics tracked", kept);
+    }
+    
+    /**
+     * 64-bit hash of the (subreddit, topic) pair, written to a reused buffer as
+     * {@code subreddit/topic}; callers hold the monitor
+     */
+    private long key(String subreddit, String topic) {
+        int length = subreddit.length() + 1 + topic.length();
+        if (keyBuffer.length < length) {
+            keyBuffer = new char[Math.max(length, keyBuffer.length * 2)];
+        }
+        subreddit.getChars(0, subreddit.length(), keyBuffer, 0);
+        keyBuffer[subreddit.length()] = '/';
+        topic.getChars(0, topic.length(), keyBuffer, subreddit.length() + 1);
+        return CountMinSketch.hash(keyBuffer, 0, length);
+    }
+}
@@ -0,0 +1,177 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.trendengine.analysis.EngagementHistogram;
+import com.trendpulse.trendengine.model.SubredditBaseline;
+import com.trendpulse.trendengine.repository.SubredditBaselineRepository;
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for normalizing topic engagement against each subreddit's baseline.
+ *
+ * Keeps a rolling histogram of topic engagement rates per subreddit in memory and
+ * maps each new engagement rate to a robust z-score against the subreddit's median
+ * and MAD, expressed on a common reference scale. Scorers use this relative
+ * engagement, so a topic that is exceptional for a small subreddit ranks like one
+ * that is exceptional for a large one. Each topic is learned at most once per
+ * sample interval, so a topic that stays hot for hours weighs no more than a
+ * one-off topic. Histograms decay with a half-life and are persisted periodically,
+ * so baselines survive restarts without replaying history.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EngagementBaselineService {
+    
+    private final SubredditBaselineRepository baselineRepository;
+    
+    @Value("${app.trend.baseline.min-samples:50}")
+    private double minSamples;
+    
+    @Value("${app.trend.baseline.min-mad:1.0}")
+    private double minMad;
+    
+    @Value("${app.trend.baseline.reference-median:40.0}")
+    private double referenceMedian;
+    
+    @Value("${app.trend.baseline.reference-mad:20.0}")
+    private double referenceMad;
+    
+    @Value("${app.trend.baseline.half-life-hours:72}")
+    private double halfLifeHours;
+    
+    @Value("${app.trend.baseline.sample-interval-hours:24}")
+    private long sampleIntervalHours;
+    
+    private final Map<String, EngagementHistogram> histograms = new ConcurrentHashMap<>();
+    // Per subreddit: topic key -> epoch second it was last learned, guarded by the subreddit's histogram
+    private final Map<String, Map<String, Long>> learnedAt = new ConcurrentHashMap<>();
+    private volatile Instant lastDecayedAt = Instant.now();
+    
+    @PostConstruct
+    public void load() {
+        for (SubredditBaseline baseline : baselineRepository.findAll()) {
+            histograms.put(baseline.getSubreddit(), EngagementHistogram.of(decode(baseline.getHistogram())));
+        }
+        log.info("Loaded engagement baselines for {} subreddits", histograms.size());
+    }
+    
+    /**
+     * Set the relative engagement of each topic from the subreddit's baseline and,
+     * if {@code learn} is set, fold the engagement rates of topics not learned within
+     * the sample interval into it. Replays of history pass {@code false} so they never
+     * shift the live baseline. Topics
+     * keep their raw engagement only while the baseline has fewer than
+     * {@code min-samples} values.
+     */
+    public void normalize(String subreddit, Map<String, TrendMetrics> topicMetrics, boolean learn) {
+        EngagementHistogram histogram = learn
+                ? histograms.computeIfAbsent(key(subreddit), k -> new EngagementHistogram())
+                : histograms.get(key(subreddit));
+        if (histogram == null) return;
+        
+        synchronized (histogram) {
+            if (histogram.total() >= minSamples) {
+                double median = histogram.median();
+                double mad = Math.max(histogram.mad(), minMad);
+                for (TrendMetrics metrics : topicMetrics.values()) {
+                    double zScore = (metrics.getEngagementRate() - median) / mad;
+                    metrics.setRelativeEngagement(Math.max(0.0, referenceMedian + referenceMad * zScore));
+                }
+            }
+            
+            if (!learn) return;
+            
+            long now = Instant.now().getEpochSecond();
+            long learnBefore = now - sampleIntervalHours * 3600;
+            Map<String, Long> learned = learnedAt.computeIfAbsent(key(subreddit), k -> new HashMap<>());
+            topicMetrics.forEach((topic, metrics) -> {
+                Long last = learned.get(topic);
+                if (last == null || last <= learnBefore) {
+                    histogram.add(metrics.getEngagementRate());
+                    learned.put(topic, now);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Decay all baselines by the time since the last run and write them to the database
+     */
+    @Scheduled(fixedDelayString = "${app.trend.baseline.persist-interval-ms:300000}",
+            initialDelayString = "${app.trend.baseline.persist-interval-ms:300000}")
+    public void persist() {
+        Instant now = Instant.now();
+        double elapsedHours = (now.toEpochMilli() - lastDecayedAt.toEpochMilli()) / 3_600_000.0;
+        double factor = Math.pow(0.5, elapsedHours / halfLifeHours);
+        lastDecayedAt = now;
+        
+        long learnBefore = now.getEpochSecond() - sampleIntervalHours * 3600;
+        
+        List<SubredditBaseline> baselines = new ArrayList<>(histograms.size());
+        histograms.forEach((subreddit, histogram) -> {
+            synchronized (histogram) {
+                histogram.decay(factor);
+                Map<String, Long> learned = learnedAt.get(subreddit);
+                if (learned != null) {
+                    learned.values().removeIf(last -> last <= learnBefore);
+                }
+                baselines.add(SubredditBaseline.builder()
+                        .subreddit(subreddit)
+                        .histogram(encode(histogram.counts()))
+                        .samples(histogram.total())
+                        .medianEngagement(nanToNull(histogram.median()))
+                        .madEngagement(nanToNull(histogram.mad()))
+                        .updatedAt(now)
+                        .build());
+            }
+        });
+        
+        baselineRepository.saveAll(baselines);
+        log.debug("Persisted engagement baselines for {} subreddits", baselines.size());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        try {
+            persist();
+        } catch (Exception e) {
+            log.warn("Failed to persist engagement baselines on shutdown", e);
+        }
+    }
+    
+    private static String key(String subreddit) {
+        return subreddit != null ? subreddit.trim().toLowerCase(Locale.ROOT) : "";
+    }
+    
+    private static Double nanToNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+    
+    private static byte[] encode(double[] counts) {
+        ByteBuffer buffer = ByteBuffer.allocate(counts.length * Double.BYTES);
+        buffer.asDoubleBuffer().put(counts);
+        return buffer.array();
+    }
+    
+    private static double[] decode(byte[] bytes) {
+        double[] counts = new double[bytes.length / Double.BYTES];
+        ByteBuffer.wrap(bytes).asDoubleBuffer().get(counts);
+        return counts;
+    }
+}
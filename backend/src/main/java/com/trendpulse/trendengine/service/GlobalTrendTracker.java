@@ -0,0 +1,109 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.trendengine.analysis.SpaceSavingTopK;
+import com.trendpulse.trendengine.dto.GlobalTrendResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the heaviest topics across all subreddits.
+ *
+ * Every analyzed post adds one mention to each of its topics in a single
+ * Space-Saving summary, so memory stays at {@code app.trend.global.capacity}
+ * topics no matter how many subreddits are ingested. Counts are halved on a fixed
+ * schedule so the ranking follows recent activity; the per-subreddit mentions of
+ * each topic decay with them, and a subreddit whose share reaches zero no longer
+ * counts towards the topic's spread. Topics are tracked by canonical key and
+ * reported under the last surface form recorded for them.
+ */
+@Slf4j
+@Service
+public class GlobalTrendTracker {
+    
+    private static final int MAX_SUBREDDITS_PER_TOPIC = 16;
+    
+    @Value("${app.trend.global.capacity:1000}")
+    private int capacity;
+    
+    private SpaceSavingTopK<String> topics;
+    private final Map<String, Map<String, Integer>> topicSubreddits = new HashMap<>();
+    private final Map<String, String> topicLabels = new HashMap<>();
+    
+    @PostConstruct
+    public void initialize() {
+        topics = new SpaceSavingTopK<>(capacity);
+    }
+    
+    /**
+     * Add new topic mentions seen in one subreddit, keyed by topic key, with the
+     * display label of each topic
+     */
+    public synchronized void record(String subreddit, Map<String, Integer> mentions, Map<String, String> labels) {
+        mentions.forEach((topic, count) -> {
+            String evicted = topics.offer(topic, count);
+            if (evicted != null) {
+                topicSubreddits.remove(evicted);
+                topicLabels.remove(evicted);
+            }
+            String label = labels.get(topic);
+            if (label != null) {
+                topicLabels.put(topic, label);
+            }
+            
+            Map<String, Integer> subreddits = topicSubreddits.computeIfAbsent(topic, k -> new LinkedHashMap<>());
+            if (subreddits.containsKey(subreddit) || subreddits.size() < MAX_SUBREDDITS_PER_TOPIC) {
+                subreddits.merge(subreddit, count, Integer::sum);
+            }
+        });
+    }
+    
+    /**
+     * Heaviest topics mentioned in at least {@code minSubreddits} subreddits
+     */
+    public synchronized List<GlobalTrendResponse> getGlobalTrends(int limit, int minSubreddits) {
+        List<GlobalTrendResponse> result = new ArrayList<>();
+        for (SpaceSavingTopK.Counter<String> counter : topics.top(topics.size())) {
+            if (result.size() >= limit) break;
+            
+            Set<String> subreddits = topicSubreddits.getOrDefault(counter.key(), Map.of()).keySet();
+            if (subreddits.size() < minSubreddits) continue;
+            
+            result.add(GlobalTrendResponse.builder()
+                    .topic(topicLabels.getOrDefault(counter.key(), counter.key()))
+                    .mentions(counter.count())
+                    .maxOverestimate(counter.error())
+                    .subredditCount(subreddits.size())
+                    .subreddits(List.copyOf(subreddits))
+                    .build());
+        }
+        return result;
+    }
+    
+    /**
+     * Halve all mention counts so older activity fades out, dropping subreddits
+     * whose mentions of a topic have faded entirely
+     */
+    @Scheduled(fixedDelayString = "${app.trend.global.decay-minutes:60}",
+            initialDelayString = "${app.trend.global.decay-minutes:60}",
+            timeUnit = TimeUnit.MINUTES)
+    public synchronized void decay() {
+        topics.decay();
+        topicSubreddits.values().removeIf(subreddits -> {
+            subreddits.replaceAll((subreddit, count) -> count >>> 1);
+            subreddits.values().removeIf(count -> count == 0);
+            return subreddits.isEmpty();
+        });
+        log.debug("Decayed global topic counts ({} topics tracked)", topics.size());
+    }
+}
@@ -0,0 +1,396 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.ingestion.service.ObjectStorageService;
+import com.trendpulse.trendengine.analysis.CountMinSketch;
+import com.trendpulse.trendengine.analysis.PostBatch;
+import com.trendpulse.trendengine.analysis.SimHashIndex;
+import com.trendpulse.trendengine.analysis.SurfaceCounts;
+import com.trendpulse.trendengine.analysis.TopicActivityWindow;
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import com.trendpulse.trendengine.service.TopicExtractionService.PostTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps running per-(subreddit, topic) aggregates so each ingestion only
+ * contributes the posts it adds or changes.
+ *
+ * A post is tokenized the first time it is seen; later sightings only apply the
+ * score and comment deltas to its topics. Posts that drop out of every listing for
+ * longer than the retention window are subtracted again. New posts that
+ * near-duplicate a recent post of the subreddit are remembered without topics.
+ *
+ * Phrase candidates are counted in a per-subreddit count-min sketch that is halved
+ * once per retention window, so a phrase becomes a topic once it recurs across
+ * ingestions rather than only within one.
+ *
+ * The aggregates live in memory but are derived from the stored objects: a subreddit
+ * seen for the first time (after a restart, or after a rolled-back fold discarded its
+ * state) is rebuilt from the objects of the retention window, and objects stored
+ * since the last one this instance folded, e.g. ingestions analyzed by another
+ * instance, are folded before the new one. Each instance therefore upserts counts
+ * over the same posts. Objects are ordered by storage key, so an ingestion whose key
+ * is not newer than the last folded one is skipped. Global mentions are only
+ * recorded once the fold's transaction commits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncrementalTrendEngine {
+    
+    private static final int MIN_POSTS_PER_TOPIC = 3;
+    private static final String[] NO_TOPICS = new String[0];
+    private static final int MAX_CATCH_UP_OBJECTS = 500;
+    
+    private final MetricsComputationService metricsService;
+    private final TopicExtractionService topicExtractionService;
+    private final GlobalTrendTracker globalTrendTracker;
+    private final NearDuplicateFilter nearDuplicateFilter;
+    private final ObjectStorageService objectStorageService;
+    
+    @Value("${app.trend.incremental.retention-minutes:60}")
+    private long retentionMinutes;
+    
+    private final Map<String, SubredditState> subreddits = new ConcurrentHashMap<>();
+    
+    /**
+     * Fold an ingestion's posts, stored at {@code storagePath}, into the running aggregates.
+     * Objects of the subreddit stored before it that this instance has not folded are
+     * read from storage and folded first, so the aggregates cover every stored object
+     * in the retention window. Returns updated metrics for every touched topic that has
+     * enough posts, or an empty map if the ingestion was already folded.
+     */
+    public Map<String, TrendMetrics> fold(Long ingestionId, String subreddit, String storagePath, PostBatch batch) {
+        Instant now = Instant.now();
+        Instant cutoff = now.minusSeconds(retentionMinutes * 60);
+        
+        SubredditState state = subreddits.computeIfAbsent(subreddit,
+                k -> new SubredditState(topicExtractionService.newPhraseSketch(),
+                        nearDuplicateFilter.newIndex(), now.getEpochSecond()));
+        
+        synchronized (state) {
+            if (storagePath != null && state.lastKey != null && storagePath.compareTo(state.lastKey) <= 0) {
+                log.debug("Ingestion {} already folded into r/{}, skipping", ingestionId, subreddit);
+                return Map.of();
+            }
+            
+            // Registered before any change so a failure halfway through is also undone
+            Map<String, Integer> mentions = new HashMap<>();
+            Map<String, String> labels = new HashMap<>();
+            boolean recordOnCommit = onCompletion(ingestionId, subreddit, state, mentions, labels);
+            
+            Set<String> touched = new HashSet<>();
+            FoldCounts counts = new FoldCounts();
+            
+            evictExpired(state, cutoff.getEpochSecond(), touched);
+            decaySketch(state, now.getEpochSecond());
+            
+            int caughtUp = catchUp(state, subreddit, storagePath, cutoff, touched, mentions, counts);
+            apply(state, subreddit, batch, now.getEpochSecond(), touched, mentions, counts);
+            if (storagePath != null) {
+                state.lastKey = storagePath;
+            }
+            state.loaded = true;
+            
+            for (String topic : mentions.keySet()) {
+                labels.put(topic, state.topics.get(topic).surfaces.mostFrequent());
+            }
+            if (!recordOnCommit) {
+                globalTrendTracker.record(subreddit, mentions, labels);
+            }
+            
+            Map<String, TrendMetrics> updates = new HashMap<>();
+            for (String topic : touched) {
+                TopicAggregate aggregate = state.topics.get(topic);
+                if (aggregate == null || aggregate.postCount < MIN_POSTS_PER_TOPIC) continue;
+                
+                TrendMetrics metrics = metricsService.calculateMetrics(
+                        aggregate.postCount,
+                        aggregate.commentSum,
+                        aggregate.upvoteSum,
+                        aggregate.upSum,
+                        aggregate.voteSum,
+                        (double) aggregate.createdAtSum / aggregate.postCount,
+                        aggregate.window,
+                        now.getEpochSecond());
+                metrics.setLabel(aggregate.surfaces.mostFrequent());
+                updates.put(topic, metrics);
+            }
+            
+            log.debug("Folded ingestion {} and {} earlier objects into r/{}: {} new posts, {} near-duplicates, "
+                            + "{} topics touched, {} updated",
+                    ingestionId, caughtUp, subreddit, counts.added, counts.suppressed, touched.size(), updates.size());
+            
+            return updates;
+        }
+    }
+    
+    /**
+     * Fold the stored objects of the retention window that precede {@code storagePath}
+     * and were not folded by this instance: all of them when the state is new (after a
+     * restart or a rollback), otherwise those after the last folded key (e.g. folded by
+     * another instance). Mentions are only counted for objects of a loaded state, since
+     * a rebuild replays objects whose mentions were already recorded.
+     * Returns the number of objects folded.
+     */
+    private int catchUp(SubredditState state, String subreddit, String storagePath, Instant cutoff,
+                        Set<String> touched, Map<String, Integer> mentions, FoldCounts counts) {
+        if (storagePath == null) return 0;
+        Instant storedAt = ObjectStorageService.objectTimestamp(storagePath);
+        if (storedAt == null || !storedAt.isAfter(cutoff)) return 0;
+        
+        List<String> keys = objectStorageService.listRedditObjects(
+                subreddit, cutoff, storedAt, state.lastKey, MAX_CATCH_UP_OBJECTS);
+        int folded = 0;
+        for (String key : keys) {
+            if (key.compareTo(storagePath) >= 0) break;
+            
+            PostBatch batch = PostBatch.of(objectStorageService.retrieveRedditPosts(key));
+            apply(state, subreddit, batch, ObjectStorageService.objectTimestamp(key).getEpochSecond(),
+                    touched, state.loaded ? mentions : null, counts);
+            state.lastKey = key;
+            folded++;
+        }
+        if (folded > 0) {
+            log.info("Caught up r/{} on {} stored objects before {}", subreddit, folded, storagePath);
+        }
+        return folded;
+    }
+    
+    /**
+     * Apply one batch of posts seen at {@code seenAt}: tokenize new posts, apply the
+     * deltas of known ones and count new topic mentions unless {@code mentions} is null
+     */
+    private void apply(SubredditState state, String subreddit, PostBatch batch, long seenAt,
+                       Set<String> touched, Map<String, Integer> mentions, FoldCounts counts) {
+        int[] newPosts = new int[batch.size()];
+        int newPostCount = 0;
+        Set<String> newIds = new HashSet<>();
+        List<String> newTitles = new ArrayList<>();
+        for (int post = 0; post < batch.size(); post++) {
+            if (batch.id(post) == null) continue;
+            
+            int score = batch.score(post);
+            int comments = batch.comments(post);
+            int ups = batch.ups(post);
+            int votes = batch.votes(post);
+            PostState existing = state.posts.get(batch.id(post));
+            
+            if (existing == null) {
+                if (!newIds.add(batch.id(post))) continue;
+                
+                if (nearDuplicateFilter.isDuplicate(state.recentSignatures, batch, post)) {
+                    // Remember the repost without topics so later sightings stay no-ops
+                    state.posts.put(batch.id(post), new PostState(NO_TOPICS, NO_TOPICS, score, comments,
+                            ups, votes, seenAt, seenAt));
+                    counts.suppressed++;
+                    continue;
+                }
+                newPosts[newPostCount++] = post;
+                newTitles.add(batch.title(post));
+            
+            } else {
+                existing.lastSeen = Math.max(existing.lastSeen, seenAt);
+                if (existing.score == score && existing.comments == comments
+                        && existing.ups == ups && existing.votes == votes) continue;
+                
+                for (String topic : existing.topics) {
+                    TopicAggregate aggregate = state.topics.get(topic);
+                    aggregate.upvoteSum += score - existing.score;
+                    aggregate.commentSum += comments - existing.comments;
+                    aggregate.upSum += ups - existing.ups;
+                    aggregate.voteSum += votes - existing.votes;
+                    touched.add(topic);
+                }
+                existing.score = score;
+                existing.comments = comments;
+                existing.ups = ups;
+                existing.votes = votes;
+            }
+        }
+        
+        // Tokenize new posts together so phrases are counted across the whole batch
+        List<PostTopics> newTopics = topicExtractionService.extractPostTopics(
+                newTitles, subreddit, state.phraseSketch, MIN_POSTS_PER_TOPIC);
+        for (int i = 0; i < newPostCount; i++) {
+            int post = newPosts[i];
+            String[] topics = newTopics.get(i).getTopics();
+            String[] surfaces = newTopics.get(i).getSurfaces();
+            long createdAt = batch.createdAt(post) != PostBatch.NO_TIMESTAMP
+                    ? batch.createdAt(post) : seenAt;
+            
+            PostState newPost = new PostState(topics, surfaces, batch.score(post), batch.comments(post),
+                    batch.ups(post), batch.votes(post), createdAt, seenAt);
+            state.posts.put(batch.id(post), newPost);
+            for (int t = 0; t < topics.length; t++) {
+                state.topics.computeIfAbsent(topics[t], k -> new TopicAggregate()).add(newPost, surfaces[t]);
+                if (mentions != null) {
+                    mentions.merge(topics[t], 1, Integer::sum);
+                }
+                touched.add(topics[t]);
+            }
+            counts.added++;
+        }
+    }
+    
+    /**
+     * Inside a transaction, record the global mentions filled in by the fold once it
+     * commits. On rollback the subreddit state already holds the ingestion's changes,
+     * so drop it and let the retry rebuild it from storage.
+     * Returns false if there is no transaction to wait for.
+     */
+    private boolean onCompletion(Long ingestionId, String subreddit, SubredditState state,
+                                 Map<String, Integer> mentions, Map<String, String> labels) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    globalTrendTracker.record(subreddit, mentions, labels);
+                    return;
+                }
+                
+                subreddits.remove(subreddit, state);
+                log.warn("Discarded aggregates of r/{} after ingestion {} rolled back", subreddit, ingestionId);
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * Remove posts that have not appeared in any listing within the retention window
+     */
+    private void evictExpired(SubredditState state, long cutoff, Set<String> touched) {
+        Iterator<PostState> iterator = state.posts.values().iterator();
+        while (iterator.hasNext()) {
+            PostState post = iterator.next();
+            if (post.lastSeen >= cutoff) continue;
+            
+            for (int t = 0; t < post.topics.length; t++) {
+                TopicAggregate aggregate = state.topics.get(post.topics[t]);
+                aggregate.remove(post, post.surfaces[t]);
+                if (aggregate.postCount == 0) {
+                    state.topics.remove(post.topics[t]);
+                } else {
+                    touched.add(post.topics[t]);
+                }
+            }
+            iterator.remove();
+        }
+    }
+    
+    /**
+     * Halve phrase counts once per retention window so stale phrases fade out
+     */
+    private void decaySketch(SubredditState state, long now) {
+        if (now - state.sketchDecayedAt < retentionMinutes * 60) return;
+        
+        state.phraseSketch.decay();
+        state.sketchDecayedAt = now;
+    }
+    
+    /**
+     * Posts, topic aggregates, phrase counts, recent post signatures and the last folded
+     * object key of one subreddit, guarded by the instance monitor
+     */
+    private static class SubredditState {
+        private final Map<String, PostState> posts = new HashMap<>();
+        private final Map<String, TopicAggregate> topics = new HashMap<>();
+        private final CountMinSketch phraseSketch;
+        private final SimHashIndex recentSignatures;
+        private long sketchDecayedAt;
+        private String lastKey;
+        private boolean loaded;
+        
+        SubredditState(CountMinSketch phraseSketch, SimHashIndex recentSignatures, long createdAt) {
+            this.phraseSketch = phraseSketch;
+            this.recentSignatures = recentSignatures;
+            this.sketchDecayedAt = createdAt;
+        }
+    }
+    
+    /**
+     * Posts added and near-duplicates suppressed by one fold
+     */
+    private static class FoldCounts {
+        private int added;
+        private int suppressed;
+    }
+    
+    /**
+     * Last known contribution of a post, with the surface form of each of its topics
+     */
+    private static class PostState {
+        private final String[] topics;
+        private final String[] surfaces;
+        private final long createdAt;
+        private int score;
+        private int comments;
+        private int ups;
+        private int votes;
+        private long lastSeen;
+        
+        PostState(String[] topics, String[] surfaces, int score, int comments, int ups, int votes,
+                  long createdAt, long lastSeen) {
+            this.topics = topics;
+            this.surfaces = surfaces;
+            this.score = score;
+            this.comments = comments;
+            this.ups = ups;
+            this.votes = votes;
+            this.createdAt = createdAt;
+            this.lastSeen = lastSeen;
+        }
+    }
+    
+    /**
+     * Running totals, creation-time activity window and surface forms for a topic
+     */
+    private static class TopicAggregate {
+        private final TopicActivityWindow window = new TopicActivityWindow();
+        private final SurfaceCounts surfaces = new SurfaceCounts();
+        private int postCount;
+        private int commentSum;
+        private int upvoteSum;
+        private long upSum;
+        private long voteSum;
+        private long createdAtSum;
+        
+        void add(PostState post, String surface) {
+            surfaces.add(surface);
+            postCount++;
+            commentSum += post.comments;
+            upvoteSum += post.score;
+            upSum += post.ups;
+            voteSum += post.votes;
+            createdAtSum += post.createdAt;
+            window.record(post.createdAt);
+        }
+        
+        void remove(PostState post, String surface) {
+            surfaces.remove(surface);
+            postCount--;
+            commentSum -= post.comments;
+            upvoteSum -= post.score;
+            upSum -= post.ups;
+            voteSum -= post.votes;
+            createdAtSum -= post.createdAt;
+            window.unrecord(post.createdAt);
+        }
+    }
+}
@@ -1,15 +1,11 @@
 package com.trendpulse.trendengine.service;
 
-import com.trendpulse.ingestion.model.RedditPost;
+import com.trendpulse.trendengine.analysis.PostBatch;
+import com.trendpulse.trendengine.analysis.TopicActivityWindow;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.*;
-import java.util.stream.Collectors;
-
 /**
  * Service for computing trend metrics
  */
@@ -17,121 +13,63 @@ import java.util.stream.Collectors;
 @Service
 public class MetricsComputationService {
     
-    @Value("${app.trend.detection.velocity-weight}")
-    private double velocityWeight;
-    
-    @Value("${app.trend.detection.engagement-weight}")
-    private double engagementWeight;
-    
-    /**
-     * Calculate trend score based on velocity and engagement
-     */
-    public double calculateTrendScore(double velocity, double engagementRate) {
-        return (velocity * velocityWeight) + (engagementRate * engagementWeight);
-    }
-    
-    /**
-     * Calculate velocity (posts per hour)
-     */
-    public double calculateVelocity(List<RedditPost> posts) {
-        if (posts.isEmpty()) {
-            return 0.0;
-        }
-        
-        Instant now = Instant.now();
-        Instant oldest = posts.stream()
-                .map(RedditPost::getCreatedUtc)
-                .min(Instant::compareTo)
-                .orElse(now);
-        
-        long hoursDiff = Duration.between(oldest, now).toHours();
-        if (hoursDiff == 0) hoursDiff = 1; // Avoid division by zero
-        
-        return (double) posts.size() / hoursDiff;
-    }
-    
-    /**
-     * Calculate engagement rate (comments + upvotes per post)
-     */
-    public double calculateEngagementRate(List<RedditPost> posts) {
-        if (posts.isEmpty()) {
-            return 0.0;
-        }
-        
-        double totalEngagement = posts.stream()
-                .mapToDouble(RedditPost::calculateEngagement)
-                .sum();
-        
-        return totalEngagement / posts.size();
-    }
+    @Value("${app.trend.detection.velocity-window-minutes:60}")
+    private int velocityWindowMinutes;
     
     /**
-     * Extract trending topics from posts using keyword frequency
+     * Calculate metrics as of {@code asOf} (epoch seconds) for the first
+     * {@code postCount} posts of a posting list
      */
-    public Map<String, List<RedditPost>> extractTrendingTopics(List<RedditPost> posts, int minPosts) {
-        // Simple keyword extraction from titles
-        Map<String, List<RedditPost>> topicPosts = new HashMap<>();
+    public TrendMetrics calculateMetrics(PostBatch batch, int[] postings, int postCount, long asOf) {
+        int totalComments = 0;
+        int totalUpvotes = 0;
+        long totalUps = 0;
+        long totalVotes = 0;
+        long createdAtSum = 0;
+        int timedPosts = 0;
+        TopicActivityWindow window = new TopicActivityWindow();
         
-        for (RedditPost post : posts) {
-            String title = post.getTitle();
-            if (title == null) continue;
-            
-            // Extract significant words (simple approach)
-            String[] words = title.toLowerCase()
-                    .replaceAll("[^a-z0-9\\s]", "")
-                    .split("\\s+");
-            
-            for (String word : words) {
-                if (isSignificantWord(word)) {
-                    topicPosts.computeIfAbsent(word, k -> new ArrayList<>()).add(post);
-                }
+        // Single pass over the columns for every aggregate
+        for (int i = 0; i < postCount; i++) {
+            int post = postings[i];
+            totalComments += batch.comments(post);
+            totalUpvotes += batch.score(post);
+            totalUps += batch.ups(post);
+            totalVotes += batch.votes(post);
+            if (batch.createdAt(post) != PostBatch.NO_TIMESTAMP) {
+                window.record(batch.createdAt(post));
+                createdAtSum += batch.createdAt(post);
+                timedPosts++;
             }
         }
         
-        // Filter topics with minimum post count
-        return topicPosts.entrySet().stream()
-                .filter(entry -> entry.getValue().size() >= minPosts)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        double meanCreatedAt = timedPosts > 0 ? (double) createdAtSum / timedPosts : asOf;
+        return calculateMetrics(postCount, totalComments, totalUpvotes, totalUps, totalVotes,
+                meanCreatedAt, window, asOf);
     }
     
     /**
-     * Check if word is significant (not a stop word)
+     * Calculate metrics as of {@code now} (epoch seconds) from running totals and the
+     * activity window of a topic. The trend score is left unset; it depends on the
+     * subreddit's scorer.
      */
-    private boolean isSignificantWord(String word) {
-        if (word.length() < 4) return false;
-        
-        Set<String> stopWords = Set.of(
-            "this", "that", "with", "from", "have", "been", "were", "will",
-            "would", "could", "should", "about", "their", "there", "these",
-            "those", "what", "when", "where", "which", "while", "after"
-        );
-        
-        return !stopWords.contains(word);
-    }
-    
-    /**
-     * Calculate total metrics for a group of posts
-     */
-    public TrendMetrics calculateMetrics(List<RedditPost> posts) {
-        int totalPosts = posts.size();
-        int totalComments = posts.stream()
-                .mapToInt(p -> p.getNumComments() != null ? p.getNumComments() : 0)
-                .sum();
-        int totalUpvotes = posts.stream()
-                .mapToInt(p -> p.getScore() != null ? p.getScore() : 0)
-                .sum();
-        
-        double velocity = calculateVelocity(posts);
-        double engagementRate = calculateEngagementRate(posts);
-        double trendScore = calculateTrendScore(velocity, engagementRate);
+    public TrendMetrics calculateMetrics(int postCount, int commentCount, int upvoteCount,
+                                         long ups, long votes, double meanCreatedAt,
+                                         TopicActivityWindow window, long now) {
+        double velocity = window.velocity(now, velocityWindowMinutes);
+        double acceleration = window.acceleration(now);
+        double engagementRate = postCount > 0 ? (upvoteCount + 2.0 * commentCount) / postCount : 0.0;
         
         return TrendMetrics.builder()
-                .postCount(totalPosts)
-                .commentCount(totalComments)
-                .upvoteCount(totalUpvotes)
+                .postCount(postCount)
+                .commentCount(commentCount)
+                .upvoteCount(upvoteCount)
+                .ups(ups)
+                .votes(votes)
+                .averageAgeHours(Math.max(0.0, (now - meanCreatedAt) / 3600.0))
                 .velocity(velocity)
+                .acceleration(acceleration)
                 .engagementRate(engagementRate)
-                .trendScore(trendScore)
                 .build();
     }
     
@@ -141,11 +79,27 @@ public class MetricsComputationService {
     @lombok.Data
     @lombok.Builder
     public static class TrendMetrics {
+        private String label;
         private Integer postCount;
         private Integer commentCount;
         private Integer upvoteCount;
+        private Long ups;
+        private Long votes;
+        private Double averageAgeHours;
         private Double velocity;
+        private Double acceleration;
         private Double engagementRate;
+        private Double relativeEngagement;
         private Double trendScore;
+        private Double burstScore;
+        private Boolean breaking;
+        
+        /**
+         * Engagement rate relative to the subreddit baseline when one is available,
+         * otherwise the raw engagement rate
+         */
+        public double scoringEngagement() {
+            return relativeEngagement != null ? relativeEngagement : engagementRate;
+        }
     }
 }
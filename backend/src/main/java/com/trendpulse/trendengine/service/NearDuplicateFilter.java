@@ -0,0 +1,60 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.trendengine.analysis.PostBatch;
+import com.trendpulse.trendengine.analysis.SimHashIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+
+/**
+ * Service for suppressing crossposts and reposts before topic extraction.
+ *
+ * Posts are fingerprinted with a SimHash of their title and selftext; a post whose
+ * fingerprint is within {@code app.trend.dedup.max-distance} bits of a recently
+ * seen one is a near-duplicate and contributes to no topic.
+ */
+@Slf4j
+@Service
+public class NearDuplicateFilter {
+    
+    @Value("${app.trend.dedup.capacity:5000}")
+    private int capacity;
+    
+    @Value("${app.trend.dedup.max-distance:3}")
+    private int maxDistance;
+    
+    /**
+     * Create an empty bounded index of recent signatures
+     */
+    public SimHashIndex newIndex() {
+        return new SimHashIndex(capacity, maxDistance);
+    }
+    
+    /**
+     * Check a post against the index and remember its signature under the post id,
+     * so a post seen again is not a duplicate of itself
+     */
+    public boolean isDuplicate(SimHashIndex index, PostBatch batch, int post) {
+        return index.checkAndAdd(SimHashIndex.signature(batch.title(post), batch.selftext(post)), batch.id(post));
+    }
+    
+    /**
+     * Ordinals of posts that near-duplicate an earlier post of the same batch
+     */
+    public BitSet findDuplicates(PostBatch batch) {
+        SimHashIndex index = newIndex();
+        BitSet duplicates = new BitSet(batch.size());
+        for (int post = 0; post < batch.size(); post++) {
+            if (isDuplicate(index, batch, post)) {
+                duplicates.set(post);
+            }
+        }
+        
+        if (!duplicates.isEmpty()) {
+            log.debug("Suppressed {} near-duplicate posts of {}", duplicates.cardinality(), batch.size());
+        }
+        return duplicates;
+    }
+}
@@ -0,0 +1,200 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.trendengine.analysis.CharArraySet;
+import com.trendpulse.trendengine.analysis.CountMinSketch;
+import com.trendpulse.trendengine.analysis.PhraseWindow;
+import com.trendpulse.trendengine.analysis.PostBatch;
+import com.trendpulse.trendengine.analysis.StopWordLexicon;
+import com.trendpulse.trendengine.analysis.TitleTokenizer;
+import com.trendpulse.trendengine.analysis.TopicCanonicalizer;
+import com.trendpulse.trendengine.analysis.TopicIndex;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Service for extracting topics (keywords and short phrases) from post titles.
+ * Words are canonicalized (aliases and stemming) after stop-word filtering, so
+ * topics and phrases are built from canonical words. The canonical form is only the
+ * grouping key; each occurrence also reports the surface form it was written in
+ * (lowercased), from which the topic's display label is picked.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TopicExtractionService {
+    
+    private static final int MIN_WORD_LENGTH = 4;
+    private static final int MIN_PHRASE_WORD_LENGTH = 3;
+    
+    private final StopWordLexicon stopWordLexicon;
+    private final TopicCanonicalizer topicCanonicalizer;
+    
+    @Value("${app.trend.phrases.max-words:3}")
+    private int maxPhraseWords;
+    
+    @Value("${app.trend.phrases.sketch-width:2048}")
+    private int sketchWidth;
+    
+    @Value("${app.trend.phrases.sketch-depth:4}")
+    private int sketchDepth;
+    
+    /**
+     * Build an inverted index of the keyword and phrase topics of an ingestion,
+     * skipping the posts in {@code excluded}. Posting lists hold batch ordinals.
+     */
+    public TopicIndex indexTopics(PostBatch batch, BitSet excluded, String subreddit, int minPhraseCount) {
+        CharArraySet stopWords = stopWordLexicon.forSubreddit(subreddit);
+        PhraseWindow window = new PhraseWindow(Math.max(2, maxPhraseWords));
+        PhraseWindow surfaceWindow = new PhraseWindow(Math.max(2, maxPhraseWords));
+        CountMinSketch phraseSketch = countPhrases(batch.size(),
+                post -> excluded.get(post) ? null : batch.title(post), stopWords, window, surfaceWindow,
+                newPhraseSketch());
+        
+        TopicIndex index = new TopicIndex();
+        for (int ordinal = 0; ordinal < batch.size(); ordinal++) {
+            if (excluded.get(ordinal)) continue;
+            
+            int postOrdinal = ordinal;
+            forEachTopic(batch.title(ordinal), stopWords, window, surfaceWindow, phraseSketch, minPhraseCount,
+                    (buffer, offset, length, surface, surfaceOffset, surfaceLength) -> index.add(
+                            buffer, offset, length, postOrdinal, surface, surfaceOffset, surfaceLength));
+        }
+        
+        return index;
+    }
+    
+    /**
+     * Extract the distinct topics of each title with the surface form each was first
+     * written in, in title order.
+     *
+     * Every significant word is a topic. Phrases of 2..max-words consecutive words are
+     * first counted in the sketch across all given titles, and only phrases whose
+     * estimated count reaches {@code minPhraseCount} are materialized as topics.
+     */
+    public List<PostTopics> extractPostTopics(List<String> titles, String subreddit,
+                                              CountMinSketch phraseSketch, int minPhraseCount) {
+        CharArraySet stopWords = stopWordLexicon.forSubreddit(subreddit);
+        PhraseWindow window = new PhraseWindow(Math.max(2, maxPhraseWords));
+        PhraseWindow surfaceWindow = new PhraseWindow(Math.max(2, maxPhraseWords));
+        countPhrases(titles.size(), titles::get, stopWords, window, surfaceWindow, phraseSketch);
+        
+        List<PostTopics> result = new ArrayList<>(titles.size());
+        for (String title : titles) {
+            Map<String, String> topics = new LinkedHashMap<>();
+            forEachTopic(title, stopWords, window, surfaceWindow, phraseSketch, minPhraseCount,
+                    (buffer, offset, length, surface, surfaceOffset, surfaceLength) -> {
+                        String topic = new String(buffer, offset, length);
+                        if (!topics.containsKey(topic)) {
+                            topics.put(topic, new String(surface, surfaceOffset, surfaceLength));
+                        }
+                    });
+            result.add(new PostTopics(topics.keySet().toArray(String[]::new),
+                    topics.values().toArray(String[]::new)));
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Create an empty phrase sketch sized from configuration
+     */
+    public CountMinSketch newPhraseSketch() {
+        return new CountMinSketch(sketchWidth, sketchDepth);
+    }
+    
+    /**
+     * Count phrase candidates of all titles without materializing them
+     */
+    private CountMinSketch countPhrases(int count, IntFunction<String> titles, CharArraySet stopWords,
+                                        PhraseWindow window, PhraseWindow surfaceWindow,
+                                        CountMinSketch phraseSketch) {
+        for (int i = 0; i < count; i++) {
+            forEachPhrase(titles.apply(i), stopWords, window, surfaceWindow,
+                    (buffer, offset, length, surface, surfaceOffset, surfaceLength) ->
+                            phraseSketch.add(CountMinSketch.hash(buffer, offset, length)));
+        }
+        return phraseSketch;
+    }
+    
+    /**
+     * Emit the significant words of the title and its phrases that are heavy hitters in the sketch
+     */
+    private void forEachTopic(String title, CharArraySet stopWords, PhraseWindow window, PhraseWindow surfaceWindow,
+                              CountMinSketch phraseSketch, int minPhraseCount, PhraseSink sink) {
+        if (title == null) return;
+        
+        TitleTokenizer.tokenize(title, (buffer, length) -> {
+            if (isSignificantWord(buffer, length, stopWords)) {
+                char[] word = topicCanonicalizer.canonicalize(buffer, length);
+                sink.accept(word, 0, word.length, buffer, 0, length);
+            }
+        });
+        forEachPhrase(title, stopWords, window, surfaceWindow,
+                (buffer, offset, length, surface, surfaceOffset, surfaceLength) -> {
+                    if (phraseSketch.estimate(CountMinSketch.hash(buffer, offset, length)) >= minPhraseCount) {
+                        sink.accept(buffer, offset, length, surface, surfaceOffset, surfaceLength);
+                    }
+                });
+    }
+    
+    /**
+     * Emit every phrase of consecutive phrase-eligible words in the title. The
+     * surface window holds the same words as written, in step with the canonical one.
+     */
+    private void forEachPhrase(String title, CharArraySet stopWords, PhraseWindow window,
+                               PhraseWindow surfaceWindow, PhraseSink sink) {
+        if (title == null || maxPhraseWords < 2) return;
+        
+        window.reset();
+        surfaceWindow.reset();
+        TitleTokenizer.tokenize(title, (buffer, length) -> {
+            if (length < MIN_PHRASE_WORD_LENGTH || stopWords.contains(buffer, length)) {
+                window.reset();
+                surfaceWindow.reset();
+                return;
+            }
+            
+            char[] word = topicCanonicalizer.canonicalize(buffer, length);
+            window.push(word, word.length);
+            surfaceWindow.push(buffer, length);
+            for (int n = 2; n <= window.words(); n++) {
+                int offset = window.offsetOfLast(n);
+                int surfaceOffset = surfaceWindow.offsetOfLast(n);
+                sink.accept(window.buffer(), offset, window.length() - offset,
+                        surfaceWindow.buffer(), surfaceOffset, surfaceWindow.length() - surfaceOffset);
+            }
+        });
+    }
+    
+    /**
+     * Check if word is significant (not a stop word)
+     */
+    private boolean isSignificantWord(char[] buffer, int length, CharArraySet stopWords) {
+        return length >= MIN_WORD_LENGTH && !stopWords.contains(buffer, length);
+    }
+    
+    /**
+     * Topic keys of one post with the surface form each was written in, index by index
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PostTopics {
+        private final String[] topics;
+        private final String[] surfaces;
+    }
+    
+    @FunctionalInterface
+    private interface PhraseSink {
+        void accept(char[] buffer, int offset, int length, char[] surface, int surfaceOffset, int surfaceLength);
+    }
+}
@@ -0,0 +1,226 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.common.exception.ResourceNotFoundException;
+import com.trendpulse.common.exception.ServiceException;
+import com.trendpulse.ingestion.service.ObjectStorageService;
+import com.trendpulse.trendengine.model.TrendBackfillJob;
+import com.trendpulse.trendengine.repository.TrendBackfillJobRepository;
+import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
+import com.trendpulse.trendengine.worker.SubredditAnalysisExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays stored Reddit objects of a subreddit through trend detection, e.g. after
+ * a scoring change.
+ *
+ * Objects are listed page by page in key (time) order. The objects of a page are
+ * loaded and analyzed in parallel as of their own timestamps, then saved in key
+ * order through the {@link SubredditAnalysisExecutor}, so replays never interleave
+ * with live analysis of the same subreddit, and the job checkpoint advances past the
+ * page. Memory is bounded by the page size; a failed, cancelled or interrupted job
+ * resumes after its checkpoint.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendBackfillService {
+    
+    private final TrendBackfillJobRepository backfillJobRepository;
+    private final ObjectStorageService objectStorageService;
+    private final TrendDetectionService trendDetectionService;
+    private final SubredditAnalysisExecutor analysisExecutor;
+    
+    @Value("${app.trend.backfill.concurrency:4}")
+    private int concurrency;
+    
+    @Value("${app.trend.backfill.page-size:32}")
+    private int pageSize;
+    
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> cancelRequests = ConcurrentHashMap.newKeySet();
+    
+    private ExecutorService jobExecutor;
+    private ExecutorService objectExecutor;
+    
+    @PostConstruct
+    public void initialize() {
+        jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trend-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        objectExecutor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "trend-backfill-object-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        
+        log.info("Trend backfill initialized with concurrency: {}, page size: {}", concurrency, pageSize);
+    }
+    
+    /**
+     * Create a backfill job for a subreddit and time range and queue it
+     */
+    public TrendBackfillJob start(String subreddit, Instant from, Instant to) {
+        if (from.isAfter(to)) {
+            throw new ServiceException("Backfill range start must not be after its end");
+        }
+        
+        TrendBackfillJob job = backfillJobRepository.save(TrendBackfillJob.builder()
+                .subreddit(subreddit)
+                .rangeStart(from)
+                .rangeEnd(to)
+                .build());
+        
+        log.info("Created backfill job {} for r/{} from {} to {}", job.getId(), subreddit, from, to);
+        
+        submit(job.getId());
+        return job;
+    }
+    
+    /**
+     * Queue a failed, cancelled or interrupted job again; it continues after its checkpoint
+     */
+    public TrendBackfillJob resume(Long jobId) {
+        TrendBackfillJob job = getJob(jobId);
+        if ("completed".equals(job.getStatus())) {
+            throw new ServiceException("Backfill job " + jobId + " is already completed");
+        }
+        
+        log.info("Resuming backfill job {} after: {}", jobId, job.getCheckpointKey());
+        
+        cancelRequests.remove(jobId);
+        submit(jobId);
+        return job;
+    }
+    
+    /**
+     * Stop a job after the page it is currently processing
+     */
+    public TrendBackfillJob cancel(Long jobId) {
+        TrendBackfillJob job = getJob(jobId);
+        
+        if (runningJobs.contains(jobId)) {
+            cancelRequests.add(jobId);
+        } else if (!"completed".equals(job.getStatus())) {
+            job.markCancelled();
+            job = backfillJobRepository.save(job);
+        }
+        return job;
+    }
+    
+    public TrendBackfillJob getJob(Long jobId) {
+        return backfillJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Backfill job", String.valueOf(jobId)));
+    }
+    
+    public List<TrendBackfillJob> getRecentJobs() {
+        return backfillJobRepository.findTop50ByOrderByCreatedAtDesc();
+    }
+    
+    private void submit(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            throw new ServiceException("Backfill job " + jobId + " is already queued or running");
+        }
+        
+        CompletableFuture.runAsync(() -> run(jobId), jobExecutor)
+                .whenComplete((result, error) -> {
+                    runningJobs.remove(jobId);
+                    cancelRequests.remove(jobId);
+                });
+    }
+    
+    private void run(Long jobId) {
+        TrendBackfillJob job = getJob(jobId);
+        job.markRunning();
+        job = backfillJobRepository.save(job);
+        
+        try {
+            while (true) {
+                if (cancelRequests.contains(jobId)) {
+                    job.markCancelled();
+                    backfillJobRepository.save(job);
+                    log.info("Backfill job {} cancelled after {} objects", jobId, job.getObjectsProcessed());
+                    return;
+                }
+                
+                List<String> keys = objectStorageService.listRedditObjects(job.getSubreddit(),
+                        job.getRangeStart(), job.getRangeEnd(), job.getCheckpointKey(), pageSize);
+                if (keys.isEmpty()) break;
+                
+                int trends = replayPage(job.getSubreddit(), keys);
+                
+                job.recordProgress(keys.get(keys.size() - 1), keys.size(), trends);
+                job = backfillJobRepository.save(job);
+                
+                log.debug("Backfill job {} checkpoint: {} ({} objects)",
+                        jobId, job.getCheckpointKey(), job.getObjectsProcessed());
+            }
+            
+            job.markCompleted();
+            backfillJobRepository.save(job);
+            
+            log.info("Backfill job {} completed: {} objects, {} trends",
+                    jobId, job.getObjectsProcessed(), job.getTrendsDetected());
+        
+        } catch (Exception e) {
+            log.error("Backfill job {} failed after checkpoint: {}", jobId, job.getCheckpointKey(), e);
+            job.markFailed(e.getMessage());
+            backfillJobRepository.save(job);
+        }
+    }
+    
+    /**
+     * Analyze a page of objects in parallel and save them in key order, queued behind
+     * any live analysis of the subreddit. Returns the number of trends saved.
+     */
+    private int replayPage(String subreddit, List<String> keys) {
+        List<CompletableFuture<Map<String, TrendMetrics>>> analyses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            analyses.add(CompletableFuture.supplyAsync(() -> trendDetectionService.computeTopicMetrics(
+                    subreddit, objectStorageService.retrieveRedditPosts(key),
+                    ObjectStorageService.objectTimestamp(key)), objectExecutor));
+        }
+        CompletableFuture.allOf(analyses.toArray(CompletableFuture[]::new)).join();
+        
+        AtomicInteger trends = new AtomicInteger();
+        analysisExecutor.submit(subreddit, () -> {
+            for (int i = 0; i < keys.size(); i++) {
+                trends.addAndGet(trendDetectionService.replayTrends(keys.get(i), subreddit,
+                        analyses.get(i).join(), ObjectStorageService.objectTimestamp(keys.get(i))).size());
+            }
+        }).join();
+        return trends.get();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        objectExecutor.shutdownNow();
+    }
+}
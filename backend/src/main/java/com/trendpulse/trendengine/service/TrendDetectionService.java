@@ -1,20 +1,35 @@
 package com.trendpulse.trendengine.service;
 
+import com.trendpulse.analytics.service.TrendSnapshotRecorder;
 import com.trendpulse.common.constants.AppConstants;
+import com.trendpulse.ingestion.model.IngestionLog;
 import com.trendpulse.ingestion.model.RedditPost;
+import com.trendpulse.ingestion.repository.IngestionLogRepository;
 import com.trendpulse.ingestion.service.ObjectStorageService;
+import com.trendpulse.trendengine.analysis.PostBatch;
+import com.trendpulse.trendengine.analysis.TopicIndex;
 import com.trendpulse.trendengine.model.Trend;
 import com.trendpulse.trendengine.repository.TrendRepository;
+import com.trendpulse.trendengine.scoring.TrendScorer;
+import com.trendpulse.trendengine.scoring.TrendScorerRegistry;
 import com.trendpulse.trendengine.service.MetricsComputationService.TrendMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Service for detecting trending topics from Reddit data
@@ -24,10 +39,22 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TrendDetectionService {
     
+    private static final int MIN_POSTS_PER_TOPIC = 3;
+    
     private final TrendRepository trendRepository;
     private final MetricsComputationService metricsService;
+    private final TopicExtractionService topicExtractionService;
+    private final NearDuplicateFilter nearDuplicateFilter;
     private final ObjectStorageService objectStorageService;
     private final QueuePublishService queuePublishService;
+    private final IncrementalTrendEngine incrementalTrendEngine;
+    private final BurstDetectionService burstDetectionService;
+    private final EngagementBaselineService engagementBaselineService;
+    private final TrendScorerRegistry trendScorerRegistry;
+    private final ForkJoinPool trendMetricsPool;
+    private final IngestionLogRepository ingestionLogRepository;
+    private final TrendSnapshotRecorder trendSnapshotRecorder;
+    private final TrendLifecycleService trendLifecycleService;
     
     @Value("${app.trend.detection.min-score}")
     private double minTrendScore;
@@ -48,38 +75,14 @@ public class TrendDetectionService {
                 return List.of();
             }
             
-            // Extract trending topics
-            Map<String, List<RedditPost>> topicPosts = metricsService.extractTrendingTopics(posts, 3);
-            
-            List<Trend> detectedTrends = new ArrayList<>();
+            Map<String, TrendMetrics> topicMetrics = computeTopicMetrics(subreddit, posts, Instant.now());
             
-            for (Map.Entry<String, List<RedditPost>> entry : topicPosts.entrySet()) {
-                String topic = entry.getKey();
-                List<RedditPost> topicPostList = entry.getValue();
-                
-                // Calculate metrics
-                TrendMetrics metrics = metricsService.calculateMetrics(topicPostList);
-                
-                // Only create trend if score meets minimum threshold
-                if (metrics.getTrendScore() >= minTrendScore) {
-                    Trend trend = createOrUpdateTrend(
-                            topic,
-                            subreddit,
-                            storagePath,
-                            metrics
-                    );
-                    
-                    detectedTrends.add(trend);
-                    
-                    // Publish to AI analysis queue
-                    queuePublishService.publishForAIAnalysis(trend);
-                }
-            }
+            List<Trend> detectedTrends = saveTrends(subreddit, storagePath, topicMetrics);
             
             log.info("Detected {} trends from r/{}", detectedTrends.size(), subreddit);
             
             return detectedTrends;
-            
+        
         } catch (Exception e) {
             log.error("Failed to analyze trends from: {}", storagePath, e);
             return List.of();
@@ -87,42 +90,197 @@ public class TrendDetectionService {
     }
     
     /**
-     * Create new trend or update existing one
+     * Fold a completed ingestion into the incremental aggregates and update
+     * the trends it touched, reading posts from storage only if not supplied.
+     * The ingestion row is locked and marked analyzed in the same transaction as
+     * the trend updates, so each ingestion is analyzed exactly once across instances.
      */
-    private Trend createOrUpdateTrend(String topic, String subreddit, 
-                                     String rawDataPath, TrendMetrics metrics) {
+    @Transactional
+    public List<Trend> analyzeIngestion(Long ingestionId, String subreddit, String storagePath,
+                                        List<RedditPost> posts) {
+        Optional<IngestionLog> claimed = ingestionLogRepository.lockForAnalysis(ingestionId);
+        if (claimed.isEmpty()) {
+            log.debug("Ingestion {} already analyzed or claimed by another instance", ingestionId);
+            return List.of();
+        }
         
-        Trend trend = trendRepository.findByTopicAndSubreddit(topic, subreddit)
-                .orElse(Trend.builder()
-                        .topic(topic)
-                        .subreddit(subreddit)
-                        .build());
+        try {
+            if (posts == null) {
+                log.info("Loading ingestion {} from: {}", ingestionId, storagePath);
+                posts = objectStorageService.retrieveRedditPosts(storagePath);
+            }
+            
+            Map<String, TrendMetrics> updated = incrementalTrendEngine.fold(
+                    ingestionId, subreddit, storagePath, PostBatch.of(posts));
+            
+            List<Trend> detectedTrends = saveTrends(subreddit, storagePath, updated);
+            claimed.get().markAnalyzed();
+            
+            log.info("Ingestion {} updated {} trends in r/{}",
+                    ingestionId, detectedTrends.size(), subreddit);
+            
+            return detectedTrends;
         
-        // Update metrics
-        trend.setTrendScore(metrics.getTrendScore());
-        trend.setVelocity(metrics.getVelocity());
-        trend.setEngagementRate(metrics.getEngagementRate());
-        trend.setPostCount(metrics.getPostCount());
-        trend.setCommentCount(metrics.getCommentCount());
-        trend.setUpvoteCount(metrics.getUpvoteCount());
-        trend.setRawDataPath(rawDataPath);
-        trend.setStatus("active");
+        } catch (Exception e) {
+            // Roll back partial trend updates; the ingestion stays pending for the next run
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("Failed to analyze ingestion {}", ingestionId, e);
+            return List.of();
+        }
+    }
+    
+    /**
+     * Compute per-topic metrics for the posts of one stored object as of {@code asOf}
+     * without saving anything
+     */
+    public Map<String, TrendMetrics> computeTopicMetrics(String subreddit, List<RedditPost> posts, Instant asOf) {
+        // Columnar view built once; every metric loop reads primitive arrays
+        PostBatch batch = PostBatch.of(posts);
+        
+        // Drop crossposts and reposts before they inflate topic counts
+        BitSet duplicates = nearDuplicateFilter.findDuplicates(batch);
         
-        trend = trendRepository.save(trend);
+        // Index topics to posting lists of post ordinals
+        TopicIndex topicIndex = topicExtractionService.indexTopics(
+                batch, duplicates, subreddit, MIN_POSTS_PER_TOPIC);
+        
+        // Compute per-topic metrics in parallel on the bounded trend pool
+        return trendMetricsPool.submit(() ->
+                IntStream.range(0, topicIndex.size()).parallel()
+                        .filter(id -> topicIndex.postingSize(id) >= MIN_POSTS_PER_TOPIC)
+                        .boxed()
+                        .collect(Collectors.toMap(
+                                topicIndex::topic,
+                                id -> {
+                                    TrendMetrics metrics = metricsService.calculateMetrics(batch,
+                                            topicIndex.postings(id), topicIndex.postingSize(id),
+                                            asOf.getEpochSecond());
+                                    metrics.setLabel(topicIndex.label(id));
+                                    return metrics;
+                                })))
+                .join();
+    }
+    
+    /**
+     * Save metrics replayed from a historical object taken at {@code asOf}. Burst
+     * detection and AI analysis are skipped: history must not skew the live velocity
+     * baselines or flood the AI queue. Rows are written with their historical
+     * timestamps, never overwrite newer data and keep their lifecycle status.
+     */
+    @Transactional
+    public List<Trend> replayTrends(String storagePath, String subreddit, Map<String, TrendMetrics> topicMetrics,
+                                    Instant asOf) {
+        List<Trend> replayedTrends = scoreTrends(subreddit, storagePath, topicMetrics, false);
         
-        log.info("Created/updated trend: {} in r/{} with score: {}", 
-                topic, subreddit, metrics.getTrendScore());
+        trendRepository.replayAll(replayedTrends, asOf, trendLifecycleService.statusAt(asOf));
+        trendSnapshotRecorder.record(replayedTrends, asOf);
         
-        return trend;
+        return replayedTrends;
+    }
+    
+    /**
+     * Score live topic metrics, upsert the resulting trends and queue them for AI analysis
+     */
+    private List<Trend> saveTrends(String subreddit, String rawDataPath, Map<String, TrendMetrics> topicMetrics) {
+        List<Trend> detectedTrends = scoreTrends(subreddit, rawDataPath, topicMetrics, true);
+        
+        // Single batched upsert instead of a lookup and save per topic
+        trendRepository.upsertAll(detectedTrends);
+        trendSnapshotRecorder.record(detectedTrends);
+        
+        for (Trend trend : detectedTrends) {
+            log.debug("Created/updated trend: {} in r/{} with score: {}",
+                    trend.getTopic(), subreddit, trend.getTrendScore());
+            
+            // Publish to AI analysis queue
+            queuePublishService.publishForAIAnalysis(trend);
+        }
+        
+        return detectedTrends;
+    }
+    
+    /**
+     * Normalize engagement against the subreddit baseline, score topics with the
+     * subreddit's scorer and build trends for those that meet the minimum score or
+     * are breaking. Only live analyses update the baseline and run burst detection.
+     */
+    private List<Trend> scoreTrends(String subreddit, String rawDataPath, Map<String, TrendMetrics> topicMetrics,
+                                    boolean live) {
+        List<Trend> trends = new ArrayList<>();
+        
+        engagementBaselineService.normalize(subreddit, topicMetrics, live);
+        TrendScorer scorer = trendScorerRegistry.forSubreddit(subreddit);
+        topicMetrics.values().forEach(metrics -> metrics.setTrendScore(scorer.score(metrics)));
+        if (live) {
+            burstDetectionService.evaluate(subreddit, topicMetrics);
+        } else {
+            topicMetrics.values().forEach(metrics -> {
+                metrics.setBurstScore(0.0);
+                metrics.setBreaking(false);
+            });
+        }
+        
+        for (Map.Entry<String, TrendMetrics> entry : topicMetrics.entrySet()) {
+            TrendMetrics metrics = entry.getValue();
+            
+            // Only create trend if score meets minimum threshold, unless it is a sudden burst
+            if (metrics.getTrendScore() >= minTrendScore || metrics.getBreaking()) {
+                trends.add(toTrend(entry.getKey(), subreddit, rawDataPath, metrics));
+            }
+        }
+        
+        return trends;
+    }
+    
+    /**
+     * Build the trend row for a topic key from its metrics, labelled with the topic's
+     * most frequent surface form
+     */
+    private Trend toTrend(String topicKey, String subreddit, String rawDataPath, TrendMetrics metrics) {
+        return Trend.builder()
+                .topicKey(topicKey)
+                .topic(metrics.getLabel() != null ? metrics.getLabel() : topicKey)
+                .subreddit(subreddit)
+                .trendScore(metrics.getTrendScore())
+                .velocity(metrics.getVelocity())
+                .engagementRate(metrics.getEngagementRate())
+                .postCount(metrics.getPostCount())
+                .commentCount(metrics.getCommentCount())
+                .upvoteCount(metrics.getUpvoteCount())
+                .burstScore(metrics.getBurstScore())
+                .breaking(metrics.getBreaking())
+                .rawDataPath(rawDataPath)
+                .status("active")
+                .build();
     }
     
     /**
      * Get top trends
      */
     public List<Trend> getTopTrends(int limit) {
-        return trendRepository.findTopActiveTrends().stream()
-                .limit(limit)
-                .toList();
+        return trendRepository.findTopActiveTrends(PageRequest.of(0, limit));
+    }
+    
+    /**
+     * Search active trends by topic, best score first
+     */
+    public List<Trend> searchTrends(String query, int limit) {
+        String pattern = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return trendRepository.searchActiveTrends(pattern, PageRequest.of(0, limit));
+    }
+    
+    /**
+     * Get active trends currently flagged as breaking, strongest burst first
+     */
+    public List<Trend> getBreakingTrends(int limit) {
+        return trendRepository.findBreakingTrends(PageRequest.of(0, limit));
+    }
+    
+    /**
+     * Count active trends without loading them
+     */
+    public long countActiveTrends() {
+        return trendRepository.countByStatus("active");
     }
     
     /**
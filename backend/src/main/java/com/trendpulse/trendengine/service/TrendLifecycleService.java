@@ -0,0 +1,86 @@
+package com.trendpulse.trendengine.service;
+
+import com.trendpulse.trendengine.repository.TrendRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.function.IntSupplier;
+
+/**
+ * Service for aging trends: active -> cooling -> expired.
+ *
+ * Scores of trends that stop receiving updates decay exponentially with the
+ * configured half-life. Trends that go stale or decay below the minimum score cool
+ * down, except breaking trends, which are saved below the minimum score and only
+ * cool once stale. Cooling trends expire. All steps are set-based UPDATEs over bounded
+ * batches, each committed on its own, so row locks stay short however much history
+ * the table holds. A new upsert for the topic reactivates it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendLifecycleService {
+    
+    private final TrendRepository trendRepository;
+    
+    @Value("${app.trend.detection.min-score}")
+    private double minTrendScore;
+    
+    @Value("${app.trend.lifecycle.interval-minutes:10}")
+    private long intervalMinutes;
+    
+    @Value("${app.trend.lifecycle.half-life-minutes:120}")
+    private long halfLifeMinutes;
+    
+    @Value("${app.trend.lifecycle.cooling-after-minutes:120}")
+    private long coolingAfterMinutes;
+    
+    @Value("${app.trend.lifecycle.expire-after-minutes:1440}")
+    private long expireAfterMinutes;
+    
+    @Value("${app.trend.lifecycle.batch-size:1000}")
+    private int batchSize;
+    
+    /**
+     * Decay idle trend scores, then cool and expire trends
+     */
+    public void applyLifecycle() {
+        Instant now = Instant.now();
+        
+        int decayed = inBatches(() -> trendRepository.decayScores(
+                now, now.minusSeconds(intervalMinutes * 60), halfLifeMinutes * 60.0, batchSize));
+        int cooled = inBatches(() -> trendRepository.coolTrends(
+                now.minusSeconds(coolingAfterMinutes * 60), minTrendScore, batchSize));
+        int expired = inBatches(() -> trendRepository.expireTrends(
+                now.minusSeconds(expireAfterMinutes * 60), batchSize));
+        
+        log.info("Trend lifecycle applied: {} decayed, {} cooled, {} expired", decayed, cooled, expired);
+    }
+    
+    /**
+     * Status the lifecycle gives a trend last updated at {@code lastUpdatedAt}, so rows
+     * written with historical timestamps start where the lifecycle would have left them
+     */
+    public String statusAt(Instant lastUpdatedAt) {
+        Instant now = Instant.now();
+        if (lastUpdatedAt.isAfter(now.minusSeconds(coolingAfterMinutes * 60))) return "active";
+        if (lastUpdatedAt.isAfter(now.minusSeconds(expireAfterMinutes * 60))) return "cooling";
+        return "expired";
+    }
+    
+    /**
+     * Repeat a batched update until it touches fewer rows than a full batch
+     */
+    private int inBatches(IntSupplier batch) {
+        int total = 0;
+        int updated;
+        do {
+            updated = batch.getAsInt();
+            total += updated;
+        } while (updated >= batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,41 @@
+package com.trendpulse.trendengine.worker;
+
+import com.trendpulse.ingestion.event.IngestionCompletedEvent;
+import com.trendpulse.trendengine.service.TrendDetectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Folds each ingestion into the trend aggregates as soon as it is committed
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionCompletedListener {
+    
+    private final TrendDetectionService trendDetectionService;
+    private final SubredditAnalysisExecutor analysisExecutor;
+    
+    /**
+     * Queue the posts carried by the event behind earlier work for the same subreddit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngestionCompleted(IngestionCompletedEvent event) {
+        log.debug("Received completed ingestion {} for r/{}", event.getIngestionId(), event.getSubreddit());
+        
+        analysisExecutor.submit(event.getSubreddit(), () -> {
+            try {
+                trendDetectionService.analyzeIngestion(
+                        event.getIngestionId(),
+                        event.getSubreddit(),
+                        event.getStoragePath(),
+                        event.getPosts()
+                );
+            } catch (Exception e) {
+                log.error("Failed to analyze ingestion {}: {}", event.getIngestionId(), e.getMessage());
+            }
+        });
+    }
+}
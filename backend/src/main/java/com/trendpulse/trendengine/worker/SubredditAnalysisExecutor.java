@@ -0,0 +1,112 @@
+package com.trendpulse.trendengine.worker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs trend analysis work for different subreddits concurrently while keeping
+ * the work of any single subreddit strictly in submission order.
+ *
+ * Each subreddit has a tail future; new work is chained onto it and executed on a
+ * shared bounded pool, so at most one task per subreddit is ever running.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubredditAnalysisExecutor {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${app.trend.analysis.concurrency:4}")
+    private int concurrency;
+    
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private ExecutorService executor;
+    private Timer taskTimer;
+    
+    @PostConstruct
+    public void initialize() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "trend-analysis-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        
+        Gauge.builder("trend.analysis.tasks.queued", queued, AtomicInteger::get)
+                .description("Analysis tasks waiting for their subreddit or a free thread")
+                .register(meterRegistry);
+        Gauge.builder("trend.analysis.tasks.in_flight", inFlight, AtomicInteger::get)
+                .description("Analysis tasks currently running")
+                .register(meterRegistry);
+        taskTimer = Timer.builder("trend.analysis.task.duration")
+                .description("Time spent analyzing a single ingestion")
+                .register(meterRegistry);
+        
+        log.info("Subreddit analysis executor started with concurrency: {}", concurrency);
+    }
+    
+    /**
+     * Queue work for a subreddit; it runs after all earlier work for the same subreddit
+     */
+    public CompletableFuture<Void> submit(String subreddit, Runnable task) {
+        queued.incrementAndGet();
+        
+        CompletableFuture<Void> next = tails.compute(subreddit, (key, tail) -> {
+            CompletableFuture<Void> previous = tail != null ? tail : CompletableFuture.completedFuture(null);
+            // Failures of earlier work must not block later work for the subreddit
+            return previous
+                    .handle((result, error) -> null)
+                    .thenRunAsync(() -> run(task), executor);
+        });
+        
+        next.whenComplete((result, error) -> tails.remove(subreddit, next));
+        return next;
+    }
+    
+    private void run(Runnable task) {
+        queued.decrementAndGet();
+        inFlight.incrementAndGet();
+        try {
+            taskTimer.record(task);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,9 +8,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Scheduled worker for trend analysis
@@ -22,9 +23,11 @@ public class TrendAnalysisWorker {
     
     private final TrendDetectionService trendDetectionService;
     private final IngestionLogRepository ingestionLogRepository;
+    private final SubredditAnalysisExecutor analysisExecutor;
     
     /**
-     * Analyze trends from recent ingestions
+     * Catch up on completed ingestions that were not analyzed on completion
+     * (e.g. the instance restarted or the listener failed)
      * Runs based on cron expression in application.yml
      */
     @Scheduled(cron = "${app.trend.analysis.schedule.cron}")
@@ -32,36 +35,39 @@ public class TrendAnalysisWorker {
         log.info("Starting scheduled trend analysis");
         
         try {
-            // Get completed ingestions from last hour
-            Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
-            List<IngestionLog> recentIngestions = ingestionLogRepository
-                    .findByStartedAtAfterOrderByStartedAtDesc(oneHourAgo);
+            // Completed ingestions not yet analyzed, oldest first so each subreddit is folded in order
+            List<IngestionLog> pendingIngestions = ingestionLogRepository
+                    .findTop500ByStatusAndAnalyzedAtIsNullOrderByStartedAtAsc("completed");
             
-            int analyzedCount = 0;
-            int trendCount = 0;
+            AtomicInteger analyzedCount = new AtomicInteger();
+            AtomicInteger trendCount = new AtomicInteger();
+            List<CompletableFuture<Void>> pending = new ArrayList<>();
             
-            for (IngestionLog ingestion : recentIngestions) {
-                if (!"completed".equals(ingestion.getStatus())) {
-                    continue;
-                }
-                
-                try {
-                    var trends = trendDetectionService.analyzeTrends(
-                            ingestion.getStoragePath(),
-                            ingestion.getSubreddit()
-                    );
-                    
-                    analyzedCount++;
-                    trendCount += trends.size();
-                    
-                } catch (Exception e) {
-                    log.error("Failed to analyze ingestion {}: {}", 
-                            ingestion.getId(), e.getMessage());
-                }
+            for (IngestionLog ingestion : pendingIngestions) {
+                pending.add(analysisExecutor.submit(ingestion.getSubreddit(), () -> {
+                    try {
+                        var trends = trendDetectionService.analyzeIngestion(
+                                ingestion.getId(),
+                                ingestion.getSubreddit(),
+                                ingestion.getStoragePath(),
+                                null
+                        );
+                        
+                        analyzedCount.incrementAndGet();
+                        trendCount.addAndGet(trends.size());
+                        
+                    } catch (Exception e) {
+                        log.error("Failed to analyze ingestion {}: {}", 
+                                ingestion.getId(), e.getMessage());
+                    }
+                }));
             }
             
+            // Subreddits run concurrently; wait for the whole cycle before reporting
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+            
             log.info("Trend analysis completed. Analyzed {} ingestions, detected {} trends",
-                    analyzedCount, trendCount);
+                    analyzedCount.get(), trendCount.get());
                     
         } catch (Exception e) {
             log.error("Scheduled trend analysis failed: {}", e.getMessage(), e);
@@ -73,7 +79,7 @@ public class TrendAnalysisWorker {
      */
     @Scheduled(fixedRate = 300000) // Every 5 minutes
     public void logWorkerStatus() {
-        long activeTrends = trendDetectionService.getTopTrends(1000).size();
+        long activeTrends = trendDetectionService.countActiveTrends();
         log.debug("Trend analysis worker is active. Active trends: {}", activeTrends);
     }
 }
@@ -0,0 +1,31 @@
+package com.trendpulse.trendengine.worker;
+
+import com.trendpulse.trendengine.service.TrendLifecycleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduled worker for trend decay and status transitions
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendLifecycleWorker {
+    
+    private final TrendLifecycleService trendLifecycleService;
+    
+    @Scheduled(fixedDelayString = "${app.trend.lifecycle.interval-minutes:10}",
+            initialDelayString = "${app.trend.lifecycle.interval-minutes:10}",
+            timeUnit = TimeUnit.MINUTES)
+    public void runLifecycle() {
+        try {
+            trendLifecycleService.applyLifecycle();
+        } catch (Exception e) {
+            log.error("Trend lifecycle run failed: {}", e.getMessage(), e);
+        }
+    }
+}
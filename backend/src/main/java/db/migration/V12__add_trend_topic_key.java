@@ -0,0 +1,90 @@
+package db.migration;
+
+import com.trendpulse.trendengine.analysis.TitleTokenizer;
+import com.trendpulse.trendengine.analysis.TopicCanonicalizer;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * V12: Trend Topic Key
+ * Description: Track trends under their canonical topic key and keep {@code topic} as the
+ * display label.
+ *
+ * Existing topics are canonicalized word by word with the default canonicalizer settings
+ * (Porter stemming, no aliases), so rows written before stemming line up with new
+ * detections. Where several rows of a subreddit share a key, the most recently updated
+ * one keeps it and the others get {@code <key>#<id>}; they are not deleted because
+ * metrics, analyses and generated posts cascade from them, and they expire as usual.
+ */
+public class V12__add_trend_topic_key extends BaseJavaMigration {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE trends ADD COLUMN topic_key VARCHAR(500)");
+        }
+        
+        TopicCanonicalizer canonicalizer = new TopicCanonicalizer();
+        canonicalizer.initialize();
+        
+        Set<String> taken = new HashSet<>();
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE trends SET topic_key = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            
+            int pending = 0;
+            try (ResultSet rows = select.executeQuery(
+                    "SELECT id, topic, subreddit FROM trends ORDER BY last_updated_at DESC, id DESC")) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    String key = topicKey(canonicalizer, rows.getString(2));
+                    if (!taken.add(rows.getString(3) + '\n' + key)) {
+                        key = key + "#" + id;
+                    }
+                    
+                    update.setString(1, key);
+                    update.setLong(2, id);
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+        
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE trends ALTER COLUMN topic_key SET NOT NULL");
+            statement.execute("DROP INDEX idx_trends_topic_subreddit");
+            statement.execute("CREATE UNIQUE INDEX idx_trends_topic_key_subreddit ON trends(topic_key, subreddit)");
+        }
+    }
+    
+    /**
+     * Canonical words of a stored topic joined by single spaces, as topic extraction builds them
+     */
+    private static String topicKey(TopicCanonicalizer canonicalizer, String topic) {
+        StringBuilder key = new StringBuilder(topic.length());
+        TitleTokenizer.tokenize(topic, (buffer, length) -> {
+            if (key.length() > 0) {
+                key.append(' ');
+            }
+            key.append(canonicalizer.canonicalize(buffer, length));
+        });
+        return key.length() > 0 ? key.toString() : topic;
+    }
+}
@@ -0,0 +1,11 @@
+-- V10: Subreddit Engagement Baselines
+-- Description: Rolling engagement histograms per subreddit for score normalization
+
+CREATE TABLE subreddit_baselines (
+    subreddit VARCHAR(255) PRIMARY KEY,
+    histogram BYTEA NOT NULL,
+    samples DOUBLE PRECISION NOT NULL DEFAULT 0,
+    median_engagement DOUBLE PRECISION,
+    mad_engagement DOUBLE PRECISION,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
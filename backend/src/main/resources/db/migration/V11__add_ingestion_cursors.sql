@@ -0,0 +1,9 @@
+-- V11: Ingestion Cursors
+-- Description: Per-subreddit high-water marks for incremental /new ingestion
+
+CREATE TABLE ingestion_cursors (
+    subreddit VARCHAR(255) PRIMARY KEY,
+    last_post_id VARCHAR(50) NOT NULL,
+    last_created_utc TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
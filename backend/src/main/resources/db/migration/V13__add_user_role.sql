@@ -0,0 +1,4 @@
+-- V13: User Roles
+-- Description: Role claim for admin-only endpoints (backfill, scoring overrides)
+
+ALTER TABLE users ADD COLUMN role VARCHAR(50) NOT NULL DEFAULT 'user';
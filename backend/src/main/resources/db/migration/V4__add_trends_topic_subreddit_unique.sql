@@ -0,0 +1,11 @@
+-- V4: Unique Trend Key
+-- Description: Enforce one trend row per (topic, subreddit) to support batched upserts
+
+-- Keep only the most recently updated row for any duplicated key
+DELETE FROM trends t
+USING trends newer
+WHERE t.topic = newer.topic
+  AND t.subreddit = newer.subreddit
+  AND (t.last_updated_at, t.id) < (newer.last_updated_at, newer.id);
+
+CREATE UNIQUE INDEX idx_trends_topic_subreddit ON trends(topic, subreddit);
@@ -0,0 +1,13 @@
+-- V5: Ingestion Analysis Watermark
+-- Description: Track which completed ingestions have been folded into trends
+
+ALTER TABLE ingestion_logs ADD COLUMN analyzed_at TIMESTAMP;
+
+-- Ingestions older than the previous one-hour analysis window were already analyzed
+UPDATE ingestion_logs
+SET analyzed_at = completed_at
+WHERE status = 'completed'
+  AND completed_at < CURRENT_TIMESTAMP - INTERVAL '1 hour';
+
+CREATE INDEX idx_ingestion_logs_pending_analysis ON ingestion_logs(started_at)
+    WHERE status = 'completed' AND analyzed_at IS NULL;
@@ -0,0 +1,12 @@
+-- V6: Trend Lifecycle
+-- Description: Score decay watermark and indexes for the active/cooling/expired lifecycle
+
+ALTER TABLE trends ADD COLUMN decayed_at TIMESTAMP;
+
+-- Top-trend queries only read the active set
+CREATE INDEX idx_trends_active_score ON trends(trend_score DESC)
+    WHERE status = 'active';
+
+-- Lifecycle batches only scan trends that have not expired yet
+CREATE INDEX idx_trends_live_last_updated ON trends(last_updated_at)
+    WHERE status <> 'expired';
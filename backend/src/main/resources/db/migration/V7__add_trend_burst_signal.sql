@@ -0,0 +1,8 @@
+-- V7: Trend Burst Signal
+-- Description: Velocity z-score and breaking flag from online burst detection
+
+ALTER TABLE trends ADD COLUMN burst_score DECIMAL(10, 4) NOT NULL DEFAULT 0.0;
+ALTER TABLE trends ADD COLUMN breaking BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_trends_breaking ON trends(burst_score DESC)
+    WHERE status = 'active' AND breaking;
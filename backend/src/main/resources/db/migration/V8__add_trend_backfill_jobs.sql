@@ -0,0 +1,20 @@
+-- V8: Trend Backfill Jobs
+-- Description: Checkpointed replays of stored Reddit objects through trend detection
+
+CREATE TABLE trend_backfill_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    subreddit VARCHAR(255) NOT NULL,
+    range_start TIMESTAMP NOT NULL,
+    range_end TIMESTAMP NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'pending',
+    checkpoint_key TEXT,
+    objects_processed INTEGER NOT NULL DEFAULT 0,
+    trends_detected INTEGER NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX idx_trend_backfill_jobs_status ON trend_backfill_jobs(status);
+CREATE INDEX idx_trend_backfill_jobs_created_at ON trend_backfill_jobs(created_at);
@@ -0,0 +1,17 @@
+-- V9: Trend Metric Snapshots
+-- Description: One row per trend update with all metrics, as read by the time-series API
+
+-- The key/value layout was never written to, so no rows need converting
+DROP INDEX IF EXISTS idx_trend_metrics_type;
+ALTER TABLE trend_metrics DROP COLUMN metric_type;
+ALTER TABLE trend_metrics DROP COLUMN metric_value;
+
+ALTER TABLE trend_metrics ADD COLUMN score DECIMAL(10, 4) NOT NULL;
+ALTER TABLE trend_metrics ADD COLUMN velocity DECIMAL(10, 4) NOT NULL;
+ALTER TABLE trend_metrics ADD COLUMN engagement_rate DECIMAL(10, 4) NOT NULL;
+ALTER TABLE trend_metrics ADD COLUMN post_count INTEGER NOT NULL;
+ALTER TABLE trend_metrics ADD COLUMN comment_count INTEGER NOT NULL;
+ALTER TABLE trend_metrics ADD COLUMN upvote_count INTEGER NOT NULL;
+
+-- Time-series reads are per trend over a time range
+CREATE INDEX idx_trend_metrics_trend_recorded_at ON trend_metrics(trend_id, recorded_at);